@@ -0,0 +1,82 @@
+#!/usr/bin/env bash
+# 기동 후 첫 요청 응답까지 걸린 시간(time-to-first-request) 측정
+#
+#   scripts/measure-startup.sh            # 빌드 후 baseline / fast-startup / cds 비교
+#   AOT=true scripts/measure-startup.sh   # -Paot 빌드 + -Dspring.aot.enabled=true 로 cds 측정
+#   RUNS=10 SKIP_BUILD=1 scripts/measure-startup.sh
+#
+# 프로세스 시작 시각부터 GET /.well-known/jwks.json 이 200 을 돌려줄 때까지의 시간을 RUNS 회 측정해 중앙값을 출력한다.
+# 보안 필터 체인과 DispatcherServlet 을 거치는 실제 요청이므로 지연 초기화로 미뤄진 비용도 포함된다.
+# 접속 가능한 DB(DB_URL 등 환경 변수)가 있어야 한다.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-8080}
+AOT=${AOT:-false}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+JAR=build/libs/project_ant-0.0.1-SNAPSHOT.jar
+CDS_DIR=build/cds
+URL="http://localhost:${PORT}/.well-known/jwks.json"
+
+gradle_args=()
+if [[ "$AOT" == "true" ]]; then
+  gradle_args+=(-Paot)
+fi
+
+if [[ "${SKIP_BUILD:-0}" != "1" ]]; then
+  ./gradlew -q "${gradle_args[@]}" bootJar cdsArchive
+fi
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# 한 번 기동해 첫 요청 성공까지의 ms 를 출력
+measure_once() {
+  local start pid elapsed
+  start=$(now_ms)
+  "$@" --server.port="$PORT" >/dev/null 2>&1 &
+  pid=$!
+
+  until [[ "$(curl -s -o /dev/null -w '%{http_code}' "$URL" || true)" == "200" ]]; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "기동 실패: $*" >&2
+      return 1
+    fi
+    if (( $(now_ms) - start > TIMEOUT_SECONDS * 1000 )); then
+      kill "$pid"
+      echo "시간 초과: $*" >&2
+      return 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(( $(now_ms) - start ))
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo "$elapsed"
+}
+
+# RUNS 회 측정 후 중앙값 출력
+measure() {
+  local name=$1
+  shift
+  local results=()
+  for ((i = 0; i < RUNS; i++)); do
+    results+=("$(measure_once "$@")")
+  done
+  local median
+  median=$(printf '%s\n' "${results[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR + 1) / 2)]}')
+  printf '%-14s median=%6d ms  runs=[%s]\n' "$name" "$median" "${results[*]}"
+}
+
+measure baseline     java -jar "$JAR"
+measure fast-startup java -jar "$JAR" --spring.profiles.active=fast-startup
+(
+  # CDS 아카이브는 학습 실행과 같은 작업 디렉터리/클래스패스에서만 사용된다
+  cd "$CDS_DIR"
+  measure cds java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled="$AOT" \
+    -jar "application/$(basename "$JAR")" --spring.profiles.active=fast-startup
+)
@@ -0,0 +1,42 @@
+package com.project_ant.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project_ant.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * GET /api/users/me 응답 생성 비용: User → UserResponse 변환과 JSON 직렬화.
+ * ObjectMapper 는 Spring MVC 와 같은 Jackson2ObjectMapperBuilder 기본 설정을 사용한다.
+ */
+@State(Scope.Benchmark)
+public class UserResponseBenchmark {
+
+    private User user;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        user = new User("ant@example.com", "google", "109876543210987654321");
+        user.updateProfile("Ant", "https://example.com/ant.png");
+        ReflectionTestUtils.setField(user, "id", 1L);
+        ReflectionTestUtils.setField(user, "createAt", LocalDateTime.of(2025, 1, 1, 0, 0));
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public UserResponse from() {
+        return UserResponse.from(user);
+    }
+
+    @Benchmark
+    public byte[] fromAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(UserResponse.from(user));
+    }
+}
@@ -0,0 +1,100 @@
+package com.project_ant.security.jwt;
+
+import com.project_ant.datasource.ReadYourWritesTracker;
+import com.project_ant.domain.User;
+import com.project_ant.dto.UserSnapshot;
+import com.project_ant.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+/**
+ * Authorization 헤더 추출 → 토큰 검증 → 사용자 인증까지 필터 한 번의 비용.
+ * UserRepository 는 DB 없이 고정 사용자를 돌려주는 스텁이다.
+ * stateless=false 는 userKey 로 사용자 조회(authenticateUser), true 는 클레임만으로 인증하는 경로다.
+ */
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jmh-only-0123456789abcdef";
+    private static final Long USER_ID = 1L;
+    private static final String PROVIDER = "google";
+    private static final String PROVIDER_ID = "109876543210987654321";
+    private static final String USER_KEY = PROVIDER + ":" + PROVIDER_ID;
+    private static final String EMAIL = "benchmark@example.com";
+
+    @Param({"false", "true"})
+    private boolean stateless;
+
+    @Param({"false", "true"})
+    private boolean verifiedCache;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        User user = new User(EMAIL, PROVIDER, PROVIDER_ID);
+        ReflectionTestUtils.setField(user, "id", USER_ID);
+        UserRepository userRepository = stubUserRepository(user);
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, "HS256", JwtKeyRing.DEFAULT_KEY_ID, "", "", 604800000);
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(keyRing, meterRegistry, 1800000, 604800000);
+
+        filter = new JwtAuthenticationFilter(
+                jwtTokenProvider,
+                userRepository,
+                new TokenVersionCache(userRepository, 60000, 100000),
+                new VerifiedTokenCache(verifiedCache, 10000, meterRegistry),
+                new AccessTokenRevocationList(new InMemoryRevokedTokenStore(), 100000, 0.01),
+                new ReadYourWritesTracker(false, 2000, 100000),
+                meterRegistry);
+        ReflectionTestUtils.setField(filter, "statelessEnabled", stateless);
+
+        String accessToken = jwtTokenProvider.generateAccessToken(USER_ID, USER_KEY, EMAIL, 0L);
+        request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        try {
+            filter.doFilterInternal(request, response, chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static UserRepository stubUserRepository(User user) {
+        UserSnapshot snapshot = new UserSnapshot(
+                user.getId(), user.getEmail(), user.getProvider(), user.getProviderId(), null, null);
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findSnapshotByProviderAndProviderId" -> Optional.of(snapshot);
+                    case "findTokenVersionById" -> Optional.of(user.getTokenVersion());
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubUserRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,78 @@
+package com.project_ant.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * Access/Refresh 토큰 발급·검증 비용.
+ * legacy* 는 변경 전 방식(호출마다 Keys.hmacShaKeyFor + Jwts.parser().build())을 그대로 재현한다.
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jmh-only-0123456789abcdef";
+    private static final String USER_KEY = "google:109876543210987654321";
+    private static final long ACCESS_TOKEN_EXPIRATION_MS = 1800000;
+    private static final long REFRESH_TOKEN_EXPIRATION_MS = 604800000;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, "HS256", JwtKeyRing.DEFAULT_KEY_ID, "", "", 604800000);
+        jwtTokenProvider = new JwtTokenProvider(keyRing, new SimpleMeterRegistry(), ACCESS_TOKEN_EXPIRATION_MS, REFRESH_TOKEN_EXPIRATION_MS);
+        accessToken = jwtTokenProvider.generateAccessToken(USER_KEY);
+        refreshToken = jwtTokenProvider.generateRefreshToken(USER_KEY, jwtTokenProvider.newRefreshTokenId());
+    }
+
+    @Benchmark
+    public String issueAccessToken() {
+        return jwtTokenProvider.generateAccessToken(USER_KEY);
+    }
+
+    @Benchmark
+    public String validateAccessToken() {
+        return jwtTokenProvider.validateAndGetSubject(accessToken);
+    }
+
+    @Benchmark
+    public String issueRefreshToken() {
+        return jwtTokenProvider.generateRefreshToken(USER_KEY, jwtTokenProvider.newRefreshTokenId());
+    }
+
+    @Benchmark
+    public RefreshTokenInfo parseRefreshToken() {
+        return jwtTokenProvider.parseRefreshToken(refreshToken);
+    }
+
+    @Benchmark
+    public String legacyIssueAccessToken() {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject(USER_KEY)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + ACCESS_TOKEN_EXPIRATION_MS))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String legacyValidateAccessToken() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(accessToken)
+                .getPayload()
+                .getSubject();
+    }
+}
@@ -0,0 +1,43 @@
+package com.project_ant.security.oauth;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+
+/**
+ * Provider별 user-info 응답(attributes)에서 프로필을 추출하는 비용.
+ * attributes 는 DefaultOAuth2UserService 와 같이 JSON 응답을 Map 으로 읽어 만든다.
+ */
+@State(Scope.Benchmark)
+public class OAuth2UserProfileBenchmark {
+
+    private static final Map<String, String> PAYLOADS = Map.of(
+            "google", """
+                    {"sub":"109876543210987654321","email":"ant@example.com","name":"Ant","picture":"https://example.com/ant.png"}""",
+            "kakao", """
+                    {"id":1234567890,"properties":{"nickname":"개미","profile_image":"https://example.com/ant.png"},"kakao_account":{"email":"ant@kakao.com"}}""",
+            "naver", """
+                    {"resultcode":"00","message":"success","response":{"id":"naver-ant-id","email":"ant@naver.com","name":"개미","profile_image":"https://example.com/ant.png"}}""");
+
+    @Param({"google", "kakao", "naver"})
+    private String provider;
+
+    private Map<String, Object> attributes;
+
+    @Setup
+    public void setUp() throws Exception {
+        attributes = new ObjectMapper().readValue(PAYLOADS.get(provider), new TypeReference<>() {
+        });
+    }
+
+    @Benchmark
+    public OAuth2UserProfile extractProfile() {
+        return OAuth2UserProfile.of(provider, attributes);
+    }
+}
@@ -0,0 +1,19 @@
+package com.project_ant.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 설정 (크기/TTL은 spring.cache.caffeine.spec).
+ * User 엔티티 자체는 캐시하지 않고 불변 프로젝션(UserSnapshot)만 캐시한다.
+ * 저장/삭제/갱신 쿼리 실행 시 UserRepository 에서 해당 사용자의 캐시를 비운다 (인스턴스 로컬).
+ * 다른 인스턴스의 변경은 TTL(spec 의 expireAfterWrite) 안에 반영되므로, 정확한 재검증이 필요한
+ * 조건부 GET(/api/users/me)의 수정 시각과 응답은 캐시하지 않는다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // provider + providerId → UserSnapshot (JWT 인증, 토큰 갱신, 재로그인)
+    public static final String USERS_BY_PROVIDER_KEY = "usersByProviderKey";
+}
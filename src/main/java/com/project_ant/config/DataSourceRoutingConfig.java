@@ -0,0 +1,67 @@
+package com.project_ant.config;
+
+import com.project_ant.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * primary(spring.datasource) + replica(app.datasource.routing.replica-urls) 라우팅 DataSource.
+ * 활성화하면 Boot 기본 DataSource 대신 사용된다. 읽기 전용 트랜잭션(Spring Data 조회 메서드 기본값)만 replica 로 간다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${app.datasource.routing.replica-urls:}") String replicaUrls,
+            @Value("${app.datasource.routing.replica-pool-size:10}") int replicaPoolSize,
+            @Value("${app.datasource.routing.replica-connection-timeout-ms:1000}") long replicaConnectionTimeoutMs) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : StringUtils.commaDelimitedListToStringArray(replicaUrls)) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url.trim())
+                    .build();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setMaximumPoolSize(replicaPoolSize);
+            // 장애 replica 에서 오래 기다리지 않고 primary 로 대체
+            replica.setConnectionTimeout(replicaConnectionTimeoutMs);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        // 실제 커넥션을 첫 SQL 실행 시점에 얻어야 readOnly 여부로 라우팅할 수 있음
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
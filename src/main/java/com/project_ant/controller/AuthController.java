@@ -1,84 +1,177 @@
 package com.project_ant.controller;
 
-import com.project_ant.domain.User;
+import com.project_ant.datasource.ReadYourWritesTracker;
+import com.project_ant.dto.LoginCodeExchangeRequest;
 import com.project_ant.dto.RefreshTokenRequest;
 import com.project_ant.dto.TokenResponse;
+import com.project_ant.dto.UserSnapshot;
+import com.project_ant.repository.RefreshTokenRepository;
 import com.project_ant.repository.UserRepository;
+import com.project_ant.security.config.BearerTokens;
+import com.project_ant.security.jwt.AccessTokenRevocationList;
 import com.project_ant.security.jwt.JwtTokenProvider;
+import com.project_ant.security.jwt.RefreshTokenInfo;
+import com.project_ant.security.oauth.LoginCodeStore;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/auth")
-@RequiredArgsConstructor
 public class AuthController {
 
+    private static final String[] REFRESH_OUTCOMES = {"success", "invalid", "expired", "reuse", "unknown"};
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
+    private final AccessTokenRevocationList revocationList;
+    private final LoginCodeStore loginCodeStore;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    // auth.refresh 카운터 (요청마다 조회하지 않도록 결과별로 미리 등록)
+    private final Map<String, Counter> refreshCounters;
+
+    public AuthController(JwtTokenProvider jwtTokenProvider, RefreshTokenRepository refreshTokenRepository,
+                          UserRepository userRepository, AccessTokenRevocationList revocationList,
+                          LoginCodeStore loginCodeStore, ReadYourWritesTracker readYourWritesTracker,
+                          MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.revocationList = revocationList;
+        this.loginCodeStore = loginCodeStore;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<String, Counter> counters = new HashMap<>();
+        for (String outcome : REFRESH_OUTCOMES) {
+            counters.put(outcome, meterRegistry.counter("auth.refresh", "outcome", outcome));
+        }
+        this.refreshCounters = Map.copyOf(counters);
+    }
+
+    @PostMapping("/exchange")
+    public ResponseEntity<TokenResponse> exchangeLoginCode(@Valid @RequestBody LoginCodeExchangeRequest request) {
+        // 로그인 리다이렉트로 받은 1회용 코드를 토큰으로 교환
+        TokenResponse tokens = loginCodeStore.consume(request.getCode());
+        if (tokens == null) {
+            log.warn("유효하지 않거나 이미 사용된 로그인 코드");
+            return ResponseEntity.status(401).build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(tokens);
+    }
 
     @PostMapping("/refresh")
     public ResponseEntity<TokenResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
         String refreshToken = request.getRefreshToken();
 
-        // 1. 리프레시 토큰 검증 및 userKey 추출
-        String userKey = jwtTokenProvider.validateRefreshTokenAndGetUserKey(refreshToken);
-        if (userKey == null) {
+        // 1. 리프레시 토큰 검증 및 토큰 ID 추출
+        RefreshTokenInfo tokenInfo = jwtTokenProvider.parseRefreshToken(refreshToken);
+        if (tokenInfo == null) {
             log.warn("유효하지 않은 리프레시 토큰");
+            countRefresh("invalid");
             return ResponseEntity.status(401).build();
         }
 
-        // 2. DB에서 리프레시 토큰으로 사용자 조회
-        User user = userRepository.findByRefreshToken(refreshToken).orElse(null);
-        if (user == null) {
-            log.warn("리프레시 토큰에 해당하는 사용자 없음");
+        // 2. 세션 교체 (Refresh Token Rotation): 조건부 UPDATE 한 번으로 만료 확인 + 1회용 보장
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiryDate = now.plusSeconds(jwtTokenProvider.getRefreshTokenExpirationMs() / 1000);
+        String newRefreshTokenId = jwtTokenProvider.newRefreshTokenId();
+        if (refreshTokenRepository.rotate(tokenInfo.tokenId(), newRefreshTokenId, expiryDate, now) == 0) {
+            String outcome = classifyRotationFailure(tokenInfo.tokenId());
+            log.warn("리프레시 토큰 갱신 실패: outcome={}, userKey={}", outcome, tokenInfo.userKey());
+            countRefresh(outcome);
             return ResponseEntity.status(401).build();
         }
+        readYourWritesTracker.markWrite(tokenInfo.userKey());
 
-        // 3. 리프레시 토큰 만료 시간 확인
-        if (user.getRefreshTokenExpiryDate() == null ||
-                user.getRefreshTokenExpiryDate().isBefore(LocalDateTime.now())) {
-            log.warn("리프레시 토큰 만료됨: userId={}", user.getId());
-            user.clearRefreshToken();
-            userRepository.save(user);
+        // 3. Access Token 클레임용 사용자 조회 (ver 는 다른 인스턴스의 전체 로그아웃이 반영되도록 캐시 없이 조회)
+        String[] userKeyParts = tokenInfo.userKey().split(":", 2);
+        UserSnapshot user = userKeyParts.length == 2
+                ? userRepository.findSnapshotByProviderAndProviderId(userKeyParts[0], userKeyParts[1]).orElse(null)
+                : null;
+        Long tokenVersion = user != null ? userRepository.findTokenVersionById(user.id()).orElse(null) : null;
+        if (tokenVersion == null) {
+            log.warn("리프레시 토큰에 해당하는 사용자 없음: userKey={}", tokenInfo.userKey());
+            countRefresh("unknown");
             return ResponseEntity.status(401).build();
         }
 
         // 4. 새 토큰 발급
-        String newUserKey = user.getProvider() + ":" + user.getProviderId();
-        String newAccessToken = jwtTokenProvider.generateAccessToken(newUserKey);
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(newUserKey);
+        String newAccessToken = jwtTokenProvider.generateAccessToken(
+                user.id(), tokenInfo.userKey(), user.email(), tokenVersion);
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(tokenInfo.userKey(), newRefreshTokenId);
 
-        // 5. 새 리프레시 토큰 저장 (Refresh Token Rotation)
-        LocalDateTime expiryDate = LocalDateTime.now()
-                .plusSeconds(jwtTokenProvider.getRefreshTokenExpirationMs() / 1000);
-        user.updateRefreshToken(newRefreshToken, expiryDate);
-        userRepository.save(user);
-
-        log.info("토큰 갱신 성공: userId={}", user.getId());
+        log.info("토큰 갱신 성공: userId={}", user.id());
+        countRefresh("success");
 
         return ResponseEntity.ok(TokenResponse.of(newAccessToken, newRefreshToken));
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
-        String refreshToken = request.getRefreshToken();
+    public ResponseEntity<Void> logout(
+            @Valid @RequestBody RefreshTokenRequest request,
+            @RequestHeader(value = BearerTokens.AUTHORIZATION_HEADER, required = false) String authorization) {
+        // 함께 전달된 Access Token은 남은 유효시간 동안 폐기 목록에 등록
+        revokeAccessToken(authorization);
 
-        // 리프레시 토큰으로 사용자 조회 후 토큰 삭제
-        userRepository.findByRefreshToken(refreshToken).ifPresent(user -> {
-            user.clearRefreshToken();
-            userRepository.save(user);
-            log.info("로그아웃 완료: userId={}", user.getId());
-        });
+        RefreshTokenInfo tokenInfo = jwtTokenProvider.parseRefreshToken(request.getRefreshToken());
+        if (tokenInfo == null) {
+            return ResponseEntity.ok().build();
+        }
+
+        // 요청한 기기의 세션만 삭제 (다른 기기 세션은 유지)
+        if (refreshTokenRepository.deleteTokenById(tokenInfo.tokenId()) > 0) {
+            log.info("로그아웃 완료: userKey={}", tokenInfo.userKey());
+        }
 
         return ResponseEntity.ok().build();
     }
+
+    private void revokeAccessToken(String authorization) {
+        String token = BearerTokens.extract(authorization);
+        if (token == null) {
+            return;
+        }
+
+        Claims claims = jwtTokenProvider.validateAndGetClaims(token);
+        if (claims == null || claims.getId() == null || claims.getExpiration() == null) {
+            return;
+        }
+
+        revocationList.revoke(claims.getId(), claims.getExpiration().toInstant());
+        log.info("Access Token 폐기: jti={}", claims.getId());
+    }
+
+    /**
+     * Rotation 실패 원인: 행이 남아 있으면 만료(expired), 이미 다음 토큰으로 교체되었으면 재사용(reuse),
+     * 둘 다 아니면 로그아웃/정리된 알 수 없는 토큰(unknown).
+     */
+    private String classifyRotationFailure(String tokenId) {
+        if (refreshTokenRepository.findExpiresAtById(tokenId).isPresent()) {
+            return "expired";
+        }
+        return refreshTokenRepository.existsByPreviousId(tokenId) ? "reuse" : "unknown";
+    }
+
+    private void countRefresh(String outcome) {
+        refreshCounters.get(outcome).increment();
+    }
 }
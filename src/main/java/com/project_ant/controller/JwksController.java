@@ -0,0 +1,66 @@
+package com.project_ant.controller;
+
+import com.project_ant.security.jwt.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigInteger;
+import java.security.interfaces.ECPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ES256 검증용 공개키 목록 (RFC 7517 JWK Set).
+ * 게이트웨이/내부 서비스는 이 응답을 캐시해 두고 토큰의 kid 로 공개키를 골라 직접 검증한다.
+ * 키 교체 시 새 키를 먼저 공개하고(max-age 이상 경과 후) 활성 키를 바꾸면 검증 측 캐시가 끊기지 않는다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private static final int P256_COORDINATE_BYTES = 32;
+
+    private final JwtKeyRing keyRing;
+
+    @Value("${app.jwt.jwks-max-age-seconds:300}")
+    private long maxAgeSeconds;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        List<Map<String, String>> keys = new ArrayList<>();
+        keyRing.getPublicKeys().forEach((keyId, publicKey) -> keys.add(toJwk(keyId, publicKey)));
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic())
+                .body(Map.of("keys", keys));
+    }
+
+    private static Map<String, String> toJwk(String keyId, ECPublicKey publicKey) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", keyId);
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("x", encodeCoordinate(publicKey.getW().getAffineX()));
+        jwk.put("y", encodeCoordinate(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    // 좌표는 부호 없는 고정 길이(32바이트) big-endian 을 Base64URL 로 인코딩
+    private static String encodeCoordinate(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[P256_COORDINATE_BYTES];
+        int length = Math.min(bytes.length, P256_COORDINATE_BYTES);
+        System.arraycopy(bytes, bytes.length - length, fixed, P256_COORDINATE_BYTES - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+}
@@ -0,0 +1,191 @@
+package com.project_ant.controller;
+
+import com.project_ant.dto.TokenIntrospectionRequest;
+import com.project_ant.dto.TokenIntrospectionResponse;
+import com.project_ant.dto.TokenIntrospectionResponse.Result;
+import com.project_ant.dto.UserTokenVersion;
+import com.project_ant.repository.UserRepository;
+import com.project_ant.security.jwt.AccessTokenRevocationList;
+import com.project_ant.security.jwt.JwtTokenProvider;
+import com.project_ant.security.jwt.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * 내부 서비스(게이트웨이 등)용 Access Token 일괄 검증.
+ * X-Internal-Api-Key 헤더가 app.introspection.api-key 와 같아야 하며, 키가 설정되지 않으면 비활성화된다.
+ * parallel-threshold 개 이상이면 서명 검증(CPU 작업)만 병렬로 하고, 폐기 여부와 사용자 확인은 요청 스레드에서 한다
+ * (공용 ForkJoinPool 에서 DB I/O 를 하지 않음). 사용자 토큰 버전은 IN 조회 한 번으로 읽는다.
+ * 판정은 JwtAuthenticationFilter 와 같다: uid 클레임이 있으면 ver 가 현재 토큰 버전과 같아야 하고(다르면 전체 로그아웃/탈퇴로 폐기),
+ * uid 가 없는 토큰은 subject(userKey)의 사용자가 있어야 한다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/internal/tokens")
+public class TokenIntrospectionController {
+
+    private static final String API_KEY_HEADER = "X-Internal-Api-Key";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenRevocationList revocationList;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserRepository userRepository;
+    private final byte[] apiKey;
+    private final int parallelThreshold;
+
+    public TokenIntrospectionController(
+            JwtTokenProvider jwtTokenProvider,
+            AccessTokenRevocationList revocationList,
+            VerifiedTokenCache verifiedTokenCache,
+            UserRepository userRepository,
+            @Value("${app.introspection.api-key:}") String apiKey,
+            @Value("${app.introspection.parallel-threshold:32}") int parallelThreshold) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.revocationList = revocationList;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.userRepository = userRepository;
+        this.apiKey = apiKey.getBytes(StandardCharsets.UTF_8);
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @PostMapping("/introspect")
+    public ResponseEntity<TokenIntrospectionResponse> introspect(
+            @RequestHeader(value = API_KEY_HEADER, required = false) String requestApiKey,
+            @Valid @RequestBody TokenIntrospectionRequest request) {
+        if (!isAuthorized(requestApiKey)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        List<String> tokens = request.getTokens();
+        IntStream indexes = IntStream.range(0, tokens.size());
+        if (tokens.size() >= parallelThreshold) {
+            indexes = indexes.parallel();
+        }
+
+        // 순서 보장: index 기준 매핑 후 toList()
+        List<VerifiedToken> verifiedTokens = indexes.mapToObj(i -> verify(tokens.get(i))).toList();
+        Map<Long, Long> tokenVersions = loadTokenVersions(verifiedTokens);
+
+        List<Result> results = verifiedTokens.stream()
+                .map(verified -> verified.result() != null ? verified.result() : resolve(verified, tokenVersions))
+                .toList();
+        return ResponseEntity.ok(new TokenIntrospectionResponse(results));
+    }
+
+    // 서명/만료/형식 검증과 클레임 추출만 (CPU 작업, 병렬 실행)
+    private VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            return VerifiedToken.rejected(Result.inactive("invalid"));
+        }
+
+        try {
+            Claims claims = verifiedTokenCache.get(token, jwtTokenProvider::verifyClaims);
+            if (claims.getSubject() == null || claims.getExpiration() == null || isRefreshToken(claims)) {
+                return VerifiedToken.rejected(Result.inactive("invalid"));
+            }
+
+            Long userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, Long.class);
+            Long tokenVersion = claims.get(JwtTokenProvider.CLAIM_TOKEN_VERSION, Long.class);
+            if (userId != null && tokenVersion == null) {
+                // 필터도 ver 없는 uid 토큰은 거부
+                return VerifiedToken.rejected(Result.inactive("invalid"));
+            }
+            return new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant(), claims.getId(),
+                    userId, tokenVersion, null);
+        } catch (ExpiredJwtException e) {
+            return VerifiedToken.rejected(Result.inactive("expired"));
+        } catch (JwtException | IllegalArgumentException e) {
+            return VerifiedToken.rejected(Result.inactive("invalid"));
+        }
+    }
+
+    private Map<Long, Long> loadTokenVersions(List<VerifiedToken> verifiedTokens) {
+        Set<Long> userIds = new HashSet<>();
+        for (VerifiedToken verified : verifiedTokens) {
+            if (verified.userId() != null) {
+                userIds.add(verified.userId());
+            }
+        }
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> tokenVersions = new HashMap<>();
+        for (UserTokenVersion user : userRepository.findTokenVersionsByIdIn(userIds)) {
+            tokenVersions.put(user.id(), user.tokenVersion());
+        }
+        return tokenVersions;
+    }
+
+    private Result resolve(VerifiedToken verified, Map<Long, Long> tokenVersions) {
+        if (verified.tokenId() != null && revocationList.isRevoked(verified.tokenId())) {
+            return Result.revoked(verified.subject(), verified.expiresAt());
+        }
+
+        if (verified.userId() != null) {
+            // 버전이 없으면 탈퇴한 사용자
+            Long currentVersion = tokenVersions.get(verified.userId());
+            if (currentVersion == null || !currentVersion.equals(verified.tokenVersion())) {
+                return Result.revoked(verified.subject(), verified.expiresAt());
+            }
+            return Result.active(verified.subject(), verified.expiresAt());
+        }
+
+        // uid 없는 토큰: 필터의 사용자 조회 경로와 같은 기준
+        String userKey = verified.subject();
+        int separatorIndex = userKey.indexOf(':');
+        if (separatorIndex <= 0) {
+            return Result.inactive("invalid");
+        }
+        boolean userExists = userRepository.findSnapshotByProviderAndProviderId(
+                userKey.substring(0, separatorIndex), userKey.substring(separatorIndex + 1)).isPresent();
+        return userExists
+                ? Result.active(verified.subject(), verified.expiresAt())
+                : Result.revoked(verified.subject(), verified.expiresAt());
+    }
+
+    // Refresh Token 은 subject 가 "userKey:jti" 형식
+    private static boolean isRefreshToken(Claims claims) {
+        String tokenId = claims.getId();
+        String subject = claims.getSubject();
+        return tokenId != null && subject.length() > tokenId.length()
+                && subject.endsWith(tokenId) && subject.charAt(subject.length() - tokenId.length() - 1) == ':';
+    }
+
+    private boolean isAuthorized(String requestApiKey) {
+        if (apiKey.length == 0 || requestApiKey == null) {
+            return false;
+        }
+        // 상수 시간 비교
+        return MessageDigest.isEqual(apiKey, requestApiKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 검증 단계 결과: result 가 있으면 그대로 응답, 없으면 resolve 에서 폐기/사용자 확인
+    private record VerifiedToken(String subject, Instant expiresAt, String tokenId, Long userId, Long tokenVersion,
+                                 Result result) {
+
+        static VerifiedToken rejected(Result result) {
+            return new VerifiedToken(null, null, null, null, null, result);
+        }
+    }
+}
@@ -1,16 +1,26 @@
 package com.project_ant.controller;
 
+import com.project_ant.datasource.ReadYourWritesTracker;
 import com.project_ant.domain.User;
 import com.project_ant.dto.UserResponse;
 import com.project_ant.dto.UserUpdateRequest;
+import com.project_ant.repository.RefreshTokenRepository;
 import com.project_ant.repository.UserRepository;
+import com.project_ant.security.jwt.AuthenticatedUser;
+import com.project_ant.security.jwt.TokenVersionCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 
 @Slf4j
 @RestController
@@ -18,59 +28,106 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class UserController {
 
+    // 브라우저/클라이언트가 저장하되 매번 재검증 (If-None-Match / If-Modified-Since)
+    private static final CacheControl USER_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenVersionCache tokenVersionCache;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     @GetMapping("/me")
-    public ResponseEntity<UserResponse> getCurrentUser() {
-        User user = getAuthenticatedUser();
-        if (user == null) {
+    public ResponseEntity<UserResponse> getCurrentUser(@AuthenticationPrincipal AuthenticatedUser principal,
+                                                       ServletWebRequest webRequest) {
+        if (principal == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        // 수정 시각 컬럼만 PK 로 조회해 변경 여부 판단, 변경 없으면 응답 조회/직렬화 없이 304
+        // (캐시하지 않으므로 다른 인스턴스의 수정도 바로 반영, replica 라우팅 시에는 복제 지연만큼 늦을 수 있음)
+        LocalDateTime updatedAt = userRepository.findUpdatedAtById(principal.id()).orElse(null);
+        if (updatedAt == null) {
             return ResponseEntity.status(401).build();
         }
 
-        return ResponseEntity.ok(UserResponse.from(user));
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, USER_CACHE_CONTROL.getHeaderValue());
+        if (webRequest.checkNotModified(eTag(principal.id(), updatedAt), toEpochMilli(updatedAt))) {
+            return null;
+        }
+
+        return userRepository.findResponseById(principal.id())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(401).build());
     }
 
     @PutMapping("/me")
-    public ResponseEntity<UserResponse> updateProfile(@Valid @RequestBody UserUpdateRequest request) {
-        User user = getAuthenticatedUser();
-        if (user == null) {
+    public ResponseEntity<UserResponse> updateProfile(@AuthenticationPrincipal AuthenticatedUser principal,
+                                                      @Valid @RequestBody UserUpdateRequest request) {
+        if (principal == null) {
             return ResponseEntity.status(401).build();
         }
 
-        user.updateProfile(request.getName(), request.getImageUrl());
-        userRepository.save(user);
-
-        log.info("프로필 수정 완료: userId={}", user.getId());
+        // 엔티티 로딩 없이 바뀐 컬럼만 UPDATE (값이 같으면 0건)
+        int updated = userRepository.updateProfile(principal.id(), principal.provider(), principal.providerId(),
+                request.getName(), request.getImageUrl(), LocalDateTime.now());
+        if (updated > 0) {
+            readYourWritesTracker.markWrite(principal.getUserKey());
+            log.info("프로필 수정 완료: userId={}", principal.id());
+        }
 
-        return ResponseEntity.ok(UserResponse.from(user));
+        return userRepository.findResponseById(principal.id())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(401).build());
     }
 
     @DeleteMapping("/me")
-    public ResponseEntity<Void> deleteAccount() {
-        User user = getAuthenticatedUser();
+    public ResponseEntity<Void> deleteAccount(@AuthenticationPrincipal AuthenticatedUser principal) {
+        User user = getAuthenticatedUser(principal);
         if (user == null) {
             return ResponseEntity.status(401).build();
         }
 
         userRepository.delete(user);
+        tokenVersionCache.evict(user.getId());
+        readYourWritesTracker.markWrite(principal.getUserKey());
 
         log.info("회원 탈퇴 완료: userId={}", user.getId());
 
         return ResponseEntity.noContent().build();
     }
 
-    private User getAuthenticatedUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return null;
+    // 모든 기기에서 로그아웃: 토큰 버전 증가로 발급된 Access Token 무효화 + 전체 세션 삭제
+    @DeleteMapping("/me/sessions")
+    public ResponseEntity<Void> logoutAllSessions(@AuthenticationPrincipal AuthenticatedUser principal) {
+        if (principal == null || userRepository.incrementTokenVersion(principal.id()) == 0) {
+            return ResponseEntity.status(401).build();
         }
 
-        String email = (String) authentication.getPrincipal();
-        if (email == null) {
+        int deleted = refreshTokenRepository.deleteAllByUserId(principal.id());
+        tokenVersionCache.evict(principal.id());
+        readYourWritesTracker.markWrite(principal.getUserKey());
+
+        log.info("전체 세션 로그아웃 완료: userId={}, sessions={}", principal.id(), deleted);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    // 필터가 넣어 둔 principal의 사용자 ID로 PK 조회 (캐시 없이 최신 엔티티를 읽은 뒤 변경)
+    private User getAuthenticatedUser(AuthenticatedUser principal) {
+        if (principal == null) {
             return null;
         }
 
-        return userRepository.findByEmail(email).orElse(null);
+        return userRepository.findById(principal.id()).orElse(null);
+    }
+
+    // 사용자 ID + 수정 시각(마이크로초)으로 만든 강한 ETag
+    private static String eTag(Long userId, LocalDateTime updatedAt) {
+        long epochMicros = ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updatedAt);
+        return "\"" + userId + "-" + Long.toHexString(epochMicros) + "\"";
+    }
+
+    private static long toEpochMilli(LocalDateTime updatedAt) {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 }
@@ -0,0 +1,43 @@
+package com.project_ant.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청이 끝나면 ReadYourWritesTracker 의 primary 고정을 해제한다.
+ * 보안 필터 체인보다 바깥(가장 먼저)에서 실행되므로 OAuth2 로그인 성공 핸들러나 /api/auth/** 처럼
+ * JwtAuthenticationFilter 를 거치지 않는 요청도 풀 스레드에 고정을 남기지 않는다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWritesTracker.clear();
+        }
+    }
+
+    // 비동기/에러 디스패치에서 생긴 고정도 해제
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+}
@@ -0,0 +1,65 @@
+package com.project_ant.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 직후 복제 지연 때문에 방금 쓴 값을 못 읽는 문제 방지.
+ * 사용자(userKey)가 쓰기를 하면 read-your-writes-ms 동안 그 사용자의 요청은 읽기도 primary 로 보낸다.
+ * 현재 요청(스레드)도 쓰기 이후에는 primary 로 고정된다. 고정은 요청이 끝날 때 ReadYourWritesFilter 가 해제한다.
+ * 기록은 인스턴스 로컬이므로 다음 요청이 다른 인스턴스로 가면 적용되지 않는다.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(
+            @Value("${app.datasource.routing.enabled:false}") boolean enabled,
+            @Value("${app.datasource.routing.read-your-writes-ms:2000}") long windowMs,
+            @Value("${app.datasource.routing.read-your-writes-max-size:100000}") long maxSize) {
+        this.recentWriters = enabled
+                ? Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofMillis(windowMs))
+                        .maximumSize(maxSize)
+                        .build()
+                : null;
+    }
+
+    public void markWrite(String userKey) {
+        if (recentWriters == null) {
+            return;
+        }
+        recentWriters.put(userKey, Boolean.TRUE);
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    /**
+     * 복제 지연을 허용할 수 없는 조회 직전에 현재 요청을 primary 로 고정한다 (다른 인스턴스가 방금 쓴 행 등).
+     */
+    public void pinToPrimary() {
+        if (recentWriters != null) {
+            PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        }
+    }
+
+    public void pinIfRecentWrite(String userKey) {
+        if (recentWriters != null && userKey != null && recentWriters.getIfPresent(userKey) != null) {
+            PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        }
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
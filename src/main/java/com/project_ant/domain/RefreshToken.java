@@ -0,0 +1,72 @@
+package com.project_ant.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기기(세션)별 Refresh Token. 토큰 원문 대신 토큰 ID(jti)를 PK로 저장한다.
+ * 갱신(Rotation)은 user 행 UPDATE 없이 이 테이블의 DELETE + INSERT 로 처리한다.
+ */
+@Entity
+@Table(name = "refresh_token", indexes = {
+    @Index(name = "idx_refresh_token_user_id", columnList = "user_id"),
+    @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at"),
+    @Index(name = "idx_refresh_token_previous_id", columnList = "previous_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken implements Persistable<String> {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    // 직전 Rotation 에서 교체된 토큰 ID (이미 사용된 토큰 재사용 탐지용)
+    @Column(name = "previous_id", length = 36)
+    private String previousId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "create_at", nullable = false, updatable = false)
+    private LocalDateTime createAt;
+
+    // ID를 직접 지정하므로 save() 시 merge(SELECT) 없이 바로 INSERT 되도록 신규 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
+    public RefreshToken(String id, User user, LocalDateTime expiresAt) {
+        this.id = id;
+        this.user = user;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,7 +12,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "user", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"provider", "provider_id"})
+    @UniqueConstraint(name = "uk_user_provider_provider_id", columnNames = {"provider", "provider_id"})
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -39,11 +40,10 @@ public class User {
     @Column(name = "image_url", length = 500)
     private String imageUrl;
 
-    @Column(name = "refresh_token", length = 500)
-    private String refreshToken;
-
-    @Column(name = "refreshTokenExpiryDate")
-    private LocalDateTime refreshTokenExpiryDate;
+    // Stateless 인증 시 Access Token의 ver 클레임과 비교 (증가시키면 기존 토큰 무효화)
+    @ColumnDefault("0")
+    @Column(name = "token_version", nullable = false)
+    private long tokenVersion;
 
     @CreationTimestamp
     @Column(name = "create_at", nullable = false, updatable = false)
@@ -59,22 +59,19 @@ public class User {
         this.providerId = providerId;
     }
 
-    public void updateProfile(String name, String imageUrl) {
-        if (name != null) {
+    /**
+     * @return 값이 실제로 바뀌었으면 true (false면 저장할 필요 없음)
+     */
+    public boolean updateProfile(String name, String imageUrl) {
+        boolean changed = false;
+        if (name != null && !name.equals(this.name)) {
             this.name = name;
+            changed = true;
         }
-        if (imageUrl != null) {
+        if (imageUrl != null && !imageUrl.equals(this.imageUrl)) {
             this.imageUrl = imageUrl;
+            changed = true;
         }
-    }
-
-    public void updateRefreshToken(String refreshToken, LocalDateTime expiryDate) {
-        this.refreshToken = refreshToken;
-        this.refreshTokenExpiryDate = expiryDate;
-    }
-
-    public void clearRefreshToken() {
-        this.refreshToken = null;
-        this.refreshTokenExpiryDate = null;
+        return changed;
     }
 }
@@ -0,0 +1,13 @@
+package com.project_ant.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class LoginCodeExchangeRequest {
+
+    @NotBlank(message = "로그인 코드는 필수입니다")
+    private String code;
+}
@@ -0,0 +1,17 @@
+package com.project_ant.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class TokenIntrospectionRequest {
+
+    @NotEmpty(message = "토큰 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 최대 1000개까지 조회할 수 있습니다")
+    private List<String> tokens;
+}
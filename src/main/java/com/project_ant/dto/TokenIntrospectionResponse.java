@@ -0,0 +1,42 @@
+package com.project_ant.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 요청 tokens 와 같은 순서의 결과 목록.
+ */
+@Getter
+@AllArgsConstructor
+public class TokenIntrospectionResponse {
+
+    private List<Result> results;
+
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+
+        private boolean active;
+        private boolean revoked;
+        private String subject;
+        private Instant expiresAt;
+        private String error;
+
+        public static Result active(String subject, Instant expiresAt) {
+            return new Result(true, false, subject, expiresAt, null);
+        }
+
+        public static Result revoked(String subject, Instant expiresAt) {
+            return new Result(false, true, subject, expiresAt, "revoked");
+        }
+
+        public static Result inactive(String error) {
+            return new Result(false, false, null, null, error);
+        }
+    }
+}
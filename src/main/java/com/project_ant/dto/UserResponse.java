@@ -1,6 +1,7 @@
 package com.project_ant.dto;
 
 import com.project_ant.domain.User;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,6 +9,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor // JPQL 생성자 프로젝션 (UserRepository.findResponseById)
 public class UserResponse {
 
     private Long id;
@@ -0,0 +1,17 @@
+package com.project_ant.dto;
+
+/**
+ * 사용자 캐시(usersByProviderKey)에 저장하는 불변 사용자 정보 (JPQL 생성자 프로젝션).
+ * 영속성 컨텍스트와 무관해 여러 요청이 같은 인스턴스를 공유해도 안전하며, 쓰기는 UserRepository 의 갱신 쿼리로 한다.
+ * token_version 은 캐시 무효화가 인스턴스 로컬이라 여기 두지 않고 findTokenVersionById 로 직접 읽는다.
+ */
+public record UserSnapshot(Long id, String email, String provider, String providerId, String name, String imageUrl) {
+
+    /**
+     * User.updateProfile 과 같은 기준 (null 인 값은 유지)
+     */
+    public boolean isProfileChanged(String newName, String newImageUrl) {
+        return (newName != null && !newName.equals(name))
+                || (newImageUrl != null && !newImageUrl.equals(imageUrl));
+    }
+}
@@ -0,0 +1,7 @@
+package com.project_ant.dto;
+
+/**
+ * 사용자별 현재 토큰 버전 (일괄 introspection 조회용 JPQL 프로젝션).
+ */
+public record UserTokenVersion(Long id, long tokenVersion) {
+}
@@ -0,0 +1,136 @@
+package com.project_ant.migration;
+
+import com.project_ant.security.jwt.JwtTokenProvider;
+import com.project_ant.security.jwt.RefreshTokenInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * user 테이블에 남아 있는 Refresh Token 컬럼을 refresh_token 테이블(기기별 세션)로 옮긴 뒤 컬럼을 삭제한다.
+ * - refresh_token(원문) 컬럼: 토큰을 검증해 토큰 ID를 꺼낸 뒤 배치로 이관
+ * - refresh_token_id 컬럼: INSERT ... SELECT 한 번으로 이관
+ * 만료되었거나 검증에 실패한 토큰은 이관하지 않는다. 대상 컬럼이 없으면(신규 DB) 아무것도 하지 않는다.
+ * 두 컬럼이 공유하는 만료 시각 컬럼은 기본 네이밍 전략(CamelCaseToUnderscoresNamingStrategy)으로
+ * refresh_token_expiry_date 로 만들어졌으므로 그 이름으로 읽고, 두 이관이 모두 끝난 뒤 한 번에 삭제한다.
+ * 토큰 검증에 JwtTokenProvider 가 필요해 SQL 대신 Java 마이그레이션으로 두고, 빈으로 등록해 Flyway 에 전달한다.
+ */
+@Slf4j
+@Component
+public class V2__MoveLegacyRefreshTokens extends BaseJavaMigration {
+
+    private static final String RAW_TOKEN_COLUMN = "refresh_token";
+    private static final String TOKEN_ID_COLUMN = "refresh_token_id";
+    private static final String EXPIRY_COLUMN = "refresh_token_expiry_date";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final int batchSize;
+
+    public V2__MoveLegacyRefreshTokens(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${app.migration.refresh-token.batch-size:1000}") int batchSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.batchSize = batchSize;
+    }
+
+    // 배치마다 커밋해 중간에 실패해도 이관된 행은 남긴다 (남은 행만 다시 처리하므로 재실행 가능)
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        boolean hasRawTokens = columnExists(jdbcTemplate, RAW_TOKEN_COLUMN);
+        boolean hasTokenIds = columnExists(jdbcTemplate, TOKEN_ID_COLUMN);
+        boolean hasExpiry = columnExists(jdbcTemplate, EXPIRY_COLUMN);
+        if (!hasRawTokens && !hasTokenIds && !hasExpiry) {
+            return;
+        }
+
+        if (hasExpiry) {
+            if (hasRawTokens) {
+                migrateRawTokens(jdbcTemplate);
+            }
+            if (hasTokenIds) {
+                migrateTokenIds(jdbcTemplate);
+            }
+        } else {
+            // 만료 시각을 알 수 없으면 세션을 옮기지 않는다 (해당 사용자는 다시 로그인)
+            log.warn("user.{} 컬럼이 없어 기존 Refresh Token 을 이관하지 않음", EXPIRY_COLUMN);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE user " +
+                "DROP COLUMN IF EXISTS " + RAW_TOKEN_COLUMN + ", " +
+                "DROP COLUMN IF EXISTS " + TOKEN_ID_COLUMN + ", " +
+                "DROP COLUMN IF EXISTS " + EXPIRY_COLUMN);
+        log.info("user 테이블의 기존 Refresh Token 컬럼 삭제 완료");
+    }
+
+    private void migrateRawTokens(JdbcTemplate jdbcTemplate) {
+        log.info("user.refresh_token -> refresh_token 테이블 이관 시작");
+        int migrated = 0;
+        int skipped = 0;
+
+        List<Map<String, Object>> rows;
+        do {
+            rows = jdbcTemplate.queryForList(
+                    "SELECT id, refresh_token, refresh_token_expiry_date FROM user " +
+                            "WHERE refresh_token IS NOT NULL LIMIT ?",
+                    batchSize);
+
+            List<Object[]> insertArgs = new ArrayList<>();
+            List<Object[]> clearArgs = new ArrayList<>();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (Map<String, Object> row : rows) {
+                Object userId = row.get("id");
+                Timestamp expiresAt = (Timestamp) row.get(EXPIRY_COLUMN);
+                RefreshTokenInfo tokenInfo = jwtTokenProvider.parseRefreshToken((String) row.get(RAW_TOKEN_COLUMN));
+
+                if (tokenInfo != null && expiresAt != null && expiresAt.after(now)) {
+                    insertArgs.add(new Object[]{tokenInfo.tokenId(), userId, expiresAt, now});
+                } else {
+                    skipped++;
+                }
+                clearArgs.add(new Object[]{userId});
+            }
+
+            jdbcTemplate.batchUpdate(
+                    "INSERT IGNORE INTO refresh_token (id, user_id, expires_at, create_at) VALUES (?, ?, ?, ?)",
+                    insertArgs);
+            // 만료 시각은 refresh_token_id 이관에도 쓰이므로 원문만 비운다
+            jdbcTemplate.batchUpdate("UPDATE user SET refresh_token = NULL WHERE id = ?", clearArgs);
+            migrated += insertArgs.size();
+        } while (rows.size() == batchSize);
+
+        log.info("user.refresh_token 이관 완료: migrated={}, skipped={}", migrated, skipped);
+    }
+
+    private void migrateTokenIds(JdbcTemplate jdbcTemplate) {
+        int migrated = jdbcTemplate.update(
+                "INSERT IGNORE INTO refresh_token (id, user_id, expires_at, create_at) " +
+                        "SELECT refresh_token_id, id, refresh_token_expiry_date, NOW() FROM user " +
+                        "WHERE refresh_token_id IS NOT NULL AND refresh_token_expiry_date > NOW()");
+
+        log.info("user.refresh_token_id 이관 완료: migrated={}", migrated);
+    }
+
+    private static boolean columnExists(JdbcTemplate jdbcTemplate, String columnName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.COLUMNS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'user' AND COLUMN_NAME = ?",
+                Integer.class, columnName);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,48 @@
+package com.project_ant.repository;
+
+import com.project_ant.domain.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // 기존 세션이 존재하고 만료되지 않았을 때만 새 토큰 ID로 교체 (영향받은 행 수 1 = 성공, 0 = 만료/재사용/없음)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE refresh_token SET id = :newId, previous_id = :oldId, expires_at = :newExpiresAt " +
+            "WHERE id = :oldId AND expires_at > :now", nativeQuery = true)
+    int rotate(@Param("oldId") String oldId,
+               @Param("newId") String newId,
+               @Param("newExpiresAt") LocalDateTime newExpiresAt,
+               @Param("now") LocalDateTime now);
+
+    // Rotation 실패 원인 분류용 (실패 경로에서만 호출)
+    @Query("select t.expiresAt from RefreshToken t where t.id = :id")
+    Optional<LocalDateTime> findExpiresAtById(@Param("id") String id);
+
+    boolean existsByPreviousId(String previousId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.id = :id")
+    int deleteTokenById(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    // 한 번에 limit 건만 삭제해 긴 락을 피함 (expires_at 인덱스 사용)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
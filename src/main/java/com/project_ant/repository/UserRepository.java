@@ -1,9 +1,22 @@
 package com.project_ant.repository;
 
+import com.project_ant.config.CacheConfig;
 import com.project_ant.domain.User;
+import com.project_ant.dto.UserResponse;
+import com.project_ant.dto.UserSnapshot;
+import com.project_ant.dto.UserTokenVersion;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,7 +26,60 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmail(String email);
 
-    Optional<User> findByProviderAndProviderId(String provider, String providerId);
+    // 캐시에는 변경 불가능한 프로젝션만 저장 (JPA 엔티티를 공유하지 않음)
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_PROVIDER_KEY, key = "#p0 + ':' + #p1", unless = "#result == null")
+    @Query("select new com.project_ant.dto.UserSnapshot(u.id, u.email, u.provider, u.providerId, u.name, u.imageUrl) " +
+            "from User u where u.provider = :provider and u.providerId = :providerId")
+    Optional<UserSnapshot> findSnapshotByProviderAndProviderId(@Param("provider") String provider,
+                                                               @Param("providerId") String providerId);
 
-    Optional<User> findByRefreshToken(String refreshToken);
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Long> findTokenVersionById(@Param("id") Long id);
+
+    // 일괄 introspection: 토큰 여러 개의 사용자 버전을 한 번에 조회
+    @Query("select new com.project_ant.dto.UserTokenVersion(u.id, u.tokenVersion) from User u where u.id in :ids")
+    List<UserTokenVersion> findTokenVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 조건부 GET 재검증용, 인스턴스마다 다른 캐시 값으로 판단하지 않도록 매번 PK 로 조회
+    @Query("select u.updatedAt from User u where u.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    // 응답에 필요한 컬럼만 PK로 조회 (엔티티/스냅샷 생성 없음)
+    @Query("select new com.project_ant.dto.UserResponse(u.id, u.email, u.name, u.imageUrl, u.provider, u.createAt) " +
+            "from User u where u.id = :id")
+    Optional<UserResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * 프로필 부분 수정 (null 인 값은 유지). 실제로 바뀌는 값이 없으면 0 을 반환하고 updated_at 도 그대로 둔다.
+     */
+    @Transactional
+    @Modifying
+    @CacheEvict(cacheNames = CacheConfig.USERS_BY_PROVIDER_KEY, key = "#p1 + ':' + #p2")
+    @Query("update User u set u.name = coalesce(:name, u.name), u.imageUrl = coalesce(:imageUrl, u.imageUrl), " +
+            "u.updatedAt = :now " +
+            "where u.id = :id and u.provider = :provider and u.providerId = :providerId " +
+            "and ((:name is not null and (u.name is null or u.name <> :name)) " +
+            "or (:imageUrl is not null and (u.imageUrl is null or u.imageUrl <> :imageUrl)))")
+    int updateProfile(@Param("id") Long id,
+                      @Param("provider") String provider,
+                      @Param("providerId") String providerId,
+                      @Param("name") String name,
+                      @Param("imageUrl") String imageUrl,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 발급된 Access Token 전체 무효화 (ver 클레임 불일치). 읽기 없이 UPDATE 한 번으로 증가시켜 동시 요청에도 값을 잃지 않는다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.tokenVersion = u.tokenVersion + 1 where u.id = :id")
+    int incrementTokenVersion(@Param("id") Long id);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_BY_PROVIDER_KEY, key = "#p0.provider + ':' + #p0.providerId")
+    <S extends User> S save(S user);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS_BY_PROVIDER_KEY, key = "#p0.provider + ':' + #p0.providerId")
+    void delete(User user);
 }
@@ -0,0 +1,86 @@
+package com.project_ant.scheduler;
+
+import com.project_ant.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 Refresh Token 세션을 주기적으로 배치 삭제한다.
+ * 배치마다 별도 트랜잭션으로 batch-size 건씩 지우고 batch-delay-ms 만큼 쉬어 락 점유 시간을 제한한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.refresh-token.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenPurgeScheduler {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int batchSize;
+    private final long batchDelayMs;
+    private final int maxBatchesPerRun;
+    private final DistributionSummary purgedRows;
+    private final Timer purgeTimer;
+
+    public RefreshTokenPurgeScheduler(
+            RefreshTokenRepository refreshTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.refresh-token.purge.batch-size:500}") int batchSize,
+            @Value("${app.refresh-token.purge.batch-delay-ms:100}") long batchDelayMs,
+            @Value("${app.refresh-token.purge.max-batches-per-run:200}") int maxBatchesPerRun) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.batchSize = batchSize;
+        this.batchDelayMs = batchDelayMs;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.purgedRows = DistributionSummary.builder("auth.refresh_token.purge.rows")
+                .description("실행 1회당 삭제된 만료 Refresh Token 수")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("auth.refresh_token.purge.duration")
+                .description("만료 Refresh Token 삭제 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.refresh-token.purge.initial-delay-ms:60000}",
+            fixedDelayString = "${app.refresh-token.purge.interval-ms:600000}")
+    public void purgeExpiredTokens() {
+        purgeTimer.record(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            int total = 0;
+
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                int deleted = refreshTokenRepository.deleteExpiredBatch(now, batchSize);
+                total += deleted;
+                if (deleted < batchSize) {
+                    break;
+                }
+                if (!pause()) {
+                    break;
+                }
+            }
+
+            purgedRows.record(total);
+            if (total > 0) {
+                log.info("만료 리프레시 토큰 삭제 완료: count={}", total);
+            }
+        });
+    }
+
+    private boolean pause() {
+        if (batchDelayMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchDelayMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
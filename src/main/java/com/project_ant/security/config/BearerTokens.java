@@ -0,0 +1,27 @@
+package com.project_ant.security.config;
+
+/**
+ * Authorization 헤더에서 Bearer 토큰을 꺼낸다. JwtAuthenticationFilter(인증)와 AuthController(로그아웃 시 폐기)가
+ * 같은 규칙을 쓰도록 한 곳에 둔다. 인증 스킴 이름은 대소문자를 구분하지 않는다 (RFC 7235).
+ */
+public final class BearerTokens {
+
+    public static final String AUTHORIZATION_HEADER = "Authorization";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private BearerTokens() {
+    }
+
+    /**
+     * @param authorization Authorization 헤더 값 (없으면 null)
+     * @return 토큰, Bearer 형식이 아니거나 토큰이 비어 있으면 null
+     */
+    public static String extract(String authorization) {
+        if (authorization != null && authorization.length() > BEARER_PREFIX.length()
+                && authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return authorization.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+}
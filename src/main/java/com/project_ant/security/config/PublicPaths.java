@@ -0,0 +1,69 @@
+package com.project_ant.security.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인증 없이 허용하는 경로. SecurityConfig(permitAll)와 JwtAuthenticationFilter(필터 건너뛰기)가 함께 사용한다.
+ * "/x/**" 패턴은 "/x" 디렉터리 접두사로, 나머지는 정확히 일치하는 경로로 미리 변환해 두고
+ * 요청마다 문자열 비교만 한다 (경로 파싱/객체 생성 없음).
+ */
+public final class PublicPaths {
+
+    private static final String ANY_SUFFIX = "/**";
+
+    private static final String[] PATTERNS = {
+            "/", "/login/**", "/oauth2/**", "/api-docs/**", "/v3/api-docs/**", "/swagger-ui/**",
+            "/api/auth/**",
+            "/.well-known/jwks.json",
+            "/internal/**",   // 내부 API 키로 별도 인증
+            // management 포트에서만 노출. 인증 없이 여는 것은 헬스 체크와 Prometheus 수집뿐
+            "/actuator/health/**", "/actuator/prometheus"
+    };
+
+    private static final String[] EXACT_PATHS;
+    private static final String[] DIRECTORIES;
+
+    static {
+        List<String> exactPaths = new ArrayList<>();
+        List<String> directories = new ArrayList<>();
+        for (String pattern : PATTERNS) {
+            if (pattern.endsWith(ANY_SUFFIX)) {
+                directories.add(pattern.substring(0, pattern.length() - ANY_SUFFIX.length()));
+            } else {
+                exactPaths.add(pattern);
+            }
+        }
+        EXACT_PATHS = exactPaths.toArray(String[]::new);
+        DIRECTORIES = directories.toArray(String[]::new);
+    }
+
+    private PublicPaths() {
+    }
+
+    public static String[] patterns() {
+        return PATTERNS.clone();
+    }
+
+    /**
+     * @param requestUri 요청 URI (쿼리 문자열 제외)
+     * @param offset     context path 길이 (그 뒤부터 비교)
+     */
+    public static boolean matches(String requestUri, int offset) {
+        int length = requestUri.length() - offset;
+
+        for (String path : EXACT_PATHS) {
+            if (length == path.length() && requestUri.startsWith(path, offset)) {
+                return true;
+            }
+        }
+        // "/x/**" 는 "/x" 자체와 "/x/..." 에 일치
+        for (String directory : DIRECTORIES) {
+            if (requestUri.startsWith(directory, offset)
+                    && (length == directory.length() || requestUri.charAt(offset + directory.length()) == '/')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
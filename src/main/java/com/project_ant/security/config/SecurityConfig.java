@@ -2,6 +2,7 @@ package com.project_ant.security.config;
 
 import com.project_ant.security.jwt.JwtAuthenticationFilter;
 import com.project_ant.security.oauth.CustomOAuth2UserService;
+import com.project_ant.security.oauth.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.project_ant.security.oauth.OAuth2SuccessHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,6 +28,7 @@ public class SecurityConfig {
     private final CustomOAuth2UserService oAuth2UserService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final HttpCookieOAuth2AuthorizationRequestRepository authorizationRequestRepository;
 
     @Value("${app.cors.allowed-origins:http://localhost:3000}")
     private String allowedOrigins;
@@ -39,12 +41,14 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/", "/login/**", "/oauth2/**", "/api-docs/**", "/v3/api-docs/**", "/swagger-ui/**").permitAll()
-                        .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers(PublicPaths.patterns()).permitAll()  // JwtAuthenticationFilter 도 이 경로는 건너뜀
                         .requestMatchers("/api/users/**").authenticated()
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth -> oauth
+                        // 인가 요청을 세션 대신 암호화 쿠키에 저장 (어느 인스턴스에서든 콜백 처리 가능)
+                        .authorizationEndpoint(authorization -> authorization
+                                .authorizationRequestRepository(authorizationRequestRepository))
                         .userInfoEndpoint(user -> user.userService(oAuth2UserService))
                         .successHandler(oAuth2SuccessHandler)
                 )
@@ -0,0 +1,119 @@
+package com.project_ant.security.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그아웃 등으로 폐기된 Access Token(jti) 확인.
+ * 인스턴스 로컬 Bloom 필터로 먼저 거르므로, 폐기되지 않은 토큰(대부분의 요청)은 저장소 조회 없이 통과한다.
+ * 필터에 걸린 경우에만 RevokedTokenStore 로 실제 폐기 여부를 확인한다(오탐 제거).
+ * 필터는 rebuild-interval-ms 마다 저장소의 유효 목록으로 다시 만들어 만료 항목을 비우고,
+ * 공유 저장소 사용 시 다른 인스턴스에서 폐기된 토큰도 그 주기 안에 반영한다.
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList {
+
+    private final RevokedTokenStore store;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+
+    public AccessTokenRevocationList(
+            RevokedTokenStore store,
+            @Value("${app.jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+            @Value("${app.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.store = store;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        rebuild();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (!bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return store.isRevoked(tokenId);
+    }
+
+    public synchronized void revoke(String tokenId, Instant expiresAt) {
+        store.revoke(tokenId, expiresAt);
+        bloomFilter.put(tokenId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.rebuild-interval-ms:60000}")
+    public synchronized void rebuild() {
+        Map<String, Instant> active = store.findActive(Instant.now());
+        if (active.size() > expectedInsertions) {
+            log.warn("폐기 토큰 수가 Bloom 필터 예상 크기를 초과함: size={}, expectedInsertions={}",
+                    active.size(), expectedInsertions);
+        }
+
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+        active.keySet().forEach(rebuilt::put);
+        this.bloomFilter = rebuilt;
+    }
+
+    /**
+     * 고정 크기 Bloom 필터. String.hashCode 를 섞어 만든 두 해시로 k개 위치를 계산한다(double hashing).
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long n = Math.max(expectedInsertions, 1);
+            long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((m + 63) >>> 6));
+            this.bitSize = (long) bits.length() << 6;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        }
+
+        void put(String value) {
+            long hash = mix(value.hashCode());
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitSize;
+                long mask = 1L << index;
+                int word = (int) (index >>> 6);
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash = mix(value.hashCode());
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitSize;
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // MurmurHash3 fmix64
+        private static long mix(long hash) {
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
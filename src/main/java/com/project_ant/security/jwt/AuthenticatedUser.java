@@ -0,0 +1,12 @@
+package com.project_ant.security.jwt;
+
+/**
+ * JWT 인증 후 SecurityContext에 저장되는 principal.
+ * 컨트롤러는 @AuthenticationPrincipal 로 받아 사용자 ID로 바로 조회한다 (email이 없는 Kakao 사용자 포함).
+ */
+public record AuthenticatedUser(Long id, String provider, String providerId, String email) {
+
+    public String getUserKey() {
+        return provider + ":" + providerId;
+    }
+}
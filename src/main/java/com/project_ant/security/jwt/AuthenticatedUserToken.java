@@ -0,0 +1,71 @@
+package com.project_ant.security.jwt;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.Serial;
+import java.util.Collection;
+
+/**
+ * JWT 인증 결과로 SecurityContext 에 저장되는 Authentication.
+ * UsernamePasswordAuthenticationToken 은 생성할 때마다 권한 목록을 복사하지만,
+ * 이 토큰은 필터가 공유하는 불변 권한 목록을 그대로 참조한다.
+ */
+public class AuthenticatedUserToken implements Authentication {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final AuthenticatedUser principal;
+    private final Collection<? extends GrantedAuthority> authorities;
+    private boolean authenticated = true;
+
+    public AuthenticatedUserToken(AuthenticatedUser principal, Collection<? extends GrantedAuthority> authorities) {
+        this.principal = principal;
+        this.authorities = authorities;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public AuthenticatedUser getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    // 인증 상태 해제만 허용 (Authentication 계약)
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        if (authenticated) {
+            throw new IllegalArgumentException("인증 상태는 생성 시에만 설정할 수 있음");
+        }
+        this.authenticated = false;
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(principal.id());
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUserToken[userId=" + principal.id() + ", authorities=" + authorities + "]";
+    }
+}
@@ -0,0 +1,35 @@
+package com.project_ant.security.jwt;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 인스턴스용 기본 폐기 저장소. 만료된 항목은 findActive 호출(Bloom 필터 재구성) 시 정리된다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.jwt.revocation.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRevokedTokenStore implements RevokedTokenStore {
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        revoked.put(tokenId, expiresAt);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        Instant expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    @Override
+    public Map<String, Instant> findActive(Instant now) {
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        return Map.copyOf(revoked);
+    }
+}
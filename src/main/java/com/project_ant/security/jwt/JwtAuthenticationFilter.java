@@ -1,13 +1,20 @@
 package com.project_ant.security.jwt;
 
+import com.project_ant.datasource.ReadYourWritesTracker;
+import com.project_ant.dto.UserSnapshot;
 import com.project_ant.repository.UserRepository;
+import com.project_ant.security.config.BearerTokens;
+import com.project_ant.security.config.PublicPaths;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -15,74 +22,182 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authorization: Bearer 토큰으로 SecurityContext 를 채우는 필터. 모든 요청 경로에 있으므로 요청당 할당을 줄인다.
+ * - permitAll 경로(PublicPaths)는 필터를 건너뛴다
+ * - 헤더/subject 는 indexOf·regionMatches 로 파싱 (split 배열 없음), 등록된 Provider 이름은 상수 재사용
+ * - 권한 목록은 불변 목록을 공유하고 AuthenticatedUserToken 이 복사 없이 참조한다
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private static final String AUTHORIZATION_HEADER = "Authorization";
-    private static final String BEARER_PREFIX = "Bearer ";
+    private static final List<GrantedAuthority> DEFAULT_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    // userKey 의 Provider 부분이 이 값들과 같으면 substring 대신 상수를 사용
+    private static final String[] KNOWN_PROVIDERS = {"google", "kakao", "naver"};
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
+    private final TokenVersionCache tokenVersionCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocationList revocationList;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    // auth.filter 타이머 (인증 처리 구간만 측정, 이후 필터 체인은 제외)
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
+    private final Timer anonymousTimer;
+    private final Timer errorTimer;
+
+    // roles 클레임 → 불변 권한 목록 (서명된 토큰의 roles 조합만 들어오므로 발급 가능한 조합 수만큼만 쌓인다)
+    private final Map<List<?>, List<GrantedAuthority>> authoritiesByRoles = new ConcurrentHashMap<>();
+
+    // true면 토큰 클레임만으로 인증 (요청마다 사용자 조회 생략)
+    @Value("${app.jwt.stateless.enabled:false}")
+    private boolean statelessEnabled;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserRepository userRepository,
+                                   TokenVersionCache tokenVersionCache, VerifiedTokenCache verifiedTokenCache,
+                                   AccessTokenRevocationList revocationList,
+                                   ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userRepository = userRepository;
+        this.tokenVersionCache = tokenVersionCache;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revocationList = revocationList;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.authenticatedTimer = meterRegistry.timer("auth.filter", "result", "authenticated");
+        this.rejectedTimer = meterRegistry.timer("auth.filter", "result", "rejected");
+        this.anonymousTimer = meterRegistry.timer("auth.filter", "result", "anonymous");
+        this.errorTimer = meterRegistry.timer("auth.filter", "result", "error");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicPaths.matches(request.getRequestURI(), request.getContextPath().length());
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
 
+        long start = System.nanoTime();
+        Timer resultTimer = anonymousTimer;
+
         try {
-            String token = extractToken(request);
+            String token = BearerTokens.extract(request.getHeader(BearerTokens.AUTHORIZATION_HEADER));
 
             if (token != null) {
-                String userKey = jwtTokenProvider.validateAndGetSubject(token);
-
-                if (userKey != null) {
-                    authenticateUser(userKey);
-                }
+                resultTimer = authenticate(token) ? authenticatedTimer : rejectedTimer;
             }
         } catch (Exception e) {
             log.error("JWT 인증 처리 중 오류 발생: {}", e.getMessage());
             SecurityContextHolder.clearContext();
+            resultTimer = errorTimer;
         }
 
+        resultTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        // primary 고정 해제는 ReadYourWritesFilter 가 담당
         chain.doFilter(request, response);
     }
 
-    private String extractToken(HttpServletRequest request) {
-        String authHeader = request.getHeader(AUTHORIZATION_HEADER);
+    private boolean authenticate(String token) {
+        Claims claims = verifiedTokenCache.get(token, jwtTokenProvider::validateAndGetClaims);
+
+        if (claims == null) {
+            return false;
+        }
+        // 로그아웃으로 폐기된 토큰 (폐기되지 않은 토큰은 Bloom 필터에서 바로 통과)
+        if (claims.getId() != null && revocationList.isRevoked(claims.getId())) {
+            log.warn("폐기된 Access Token: jti={}", claims.getId());
+            return false;
+        }
+        // 최근 쓰기를 한 사용자면 이번 요청의 조회(사용자 조회 포함)를 primary 로 고정
+        readYourWritesTracker.pinIfRecentWrite(claims.getSubject());
+        if (statelessEnabled && claims.get(JwtTokenProvider.CLAIM_USER_ID) != null) {
+            return authenticateFromClaims(claims);
+        }
+        return claims.getSubject() != null && authenticateUser(claims.getSubject());
+    }
+
+    // 인증 스킴은 대소문자를 구분하지 않음 (RFC 7235)
+    private boolean authenticateUser(String userKey) {
+        int separatorIndex = userKey.indexOf(':');
+
+        if (separatorIndex <= 0) {
+            log.warn("잘못된 userKey 형식: {}", userKey);
+            return false;
+        }
 
-        if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
-            return authHeader.substring(BEARER_PREFIX.length());
+        String provider = provider(userKey, separatorIndex);
+        String providerId = userKey.substring(separatorIndex + 1);
+
+        Optional<UserSnapshot> user = userRepository.findSnapshotByProviderAndProviderId(provider, providerId);
+        if (user.isEmpty()) {
+            log.warn("사용자를 찾을 수 없음: provider={}, providerId={}", provider, providerId);
+            return false;
         }
 
-        return null;
+        Long userId = user.get().id();
+        AuthenticatedUser principal = new AuthenticatedUser(userId, provider, providerId, user.get().email());
+        SecurityContextHolder.getContext().setAuthentication(new AuthenticatedUserToken(principal, DEFAULT_AUTHORITIES));
+        log.debug("사용자 인증 완료: userId={}", userId);
+        return true;
     }
 
-    private void authenticateUser(String userKey) {
-        String[] parts = userKey.split(":", 2);
+    private boolean authenticateFromClaims(Claims claims) {
+        Long userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, Long.class);
+        Long tokenVersion = claims.get(JwtTokenProvider.CLAIM_TOKEN_VERSION, Long.class);
 
-        if (parts.length != 2) {
+        if (tokenVersion == null || !tokenVersionCache.isCurrent(userId, tokenVersion)) {
+            log.warn("폐기되었거나 탈퇴한 사용자의 토큰: userId={}", userId);
+            return false;
+        }
+
+        String userKey = claims.getSubject();
+        int separatorIndex = userKey != null ? userKey.indexOf(':') : -1;
+        if (separatorIndex <= 0) {
             log.warn("잘못된 userKey 형식: {}", userKey);
-            return;
+            return false;
+        }
+
+        AuthenticatedUser principal = new AuthenticatedUser(
+                userId,
+                provider(userKey, separatorIndex),
+                userKey.substring(separatorIndex + 1),
+                claims.get(JwtTokenProvider.CLAIM_EMAIL, String.class));
+
+        List<?> roles = claims.get(JwtTokenProvider.CLAIM_ROLES, List.class);
+        List<GrantedAuthority> authorities = roles == null ? DEFAULT_AUTHORITIES : authorities(roles);
+
+        SecurityContextHolder.getContext().setAuthentication(new AuthenticatedUserToken(principal, authorities));
+        log.debug("토큰 클레임으로 사용자 인증 완료: userId={}", userId);
+        return true;
+    }
+
+    private List<GrantedAuthority> authorities(List<?> roles) {
+        List<GrantedAuthority> authorities = authoritiesByRoles.get(roles);
+        if (authorities == null) {
+            authorities = roles.stream()
+                    .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(role)))
+                    .toList();
+            // 키는 클레임 목록 대신 불변 복사본으로 저장
+            authoritiesByRoles.putIfAbsent(List.copyOf(roles), authorities);
         }
+        return authorities;
+    }
 
-        String provider = parts[0];
-        String providerId = parts[1];
-
-        userRepository.findByProviderAndProviderId(provider, providerId)
-                .ifPresentOrElse(
-                        user -> {
-                            UsernamePasswordAuthenticationToken authentication =
-                                    new UsernamePasswordAuthenticationToken(
-                                            user.getEmail(),
-                                            null,
-                                            List.of(new SimpleGrantedAuthority("ROLE_USER"))
-                                    );
-                            SecurityContextHolder.getContext().setAuthentication(authentication);
-                            log.debug("사용자 인증 완료: {}", user.getEmail());
-                        },
-                        () -> log.warn("사용자를 찾을 수 없음: provider={}, providerId={}", provider, providerId)
-                );
+    private static String provider(String userKey, int separatorIndex) {
+        for (String provider : KNOWN_PROVIDERS) {
+            if (provider.length() == separatorIndex && userKey.startsWith(provider)) {
+                return provider;
+            }
+        }
+        return userKey.substring(0, separatorIndex);
     }
 }
@@ -0,0 +1,256 @@
+package com.project_ant.security.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * JWT 서명 키 모음. kid 헤더로 검증 키를 고르고, 발급은 활성 키로 한다.
+ * key-file(active-key-id로 활성 키 지정)이 설정되면 주기적으로 다시 읽어 키를 교체한다.
+ * - HS256: kid=secret 형식
+ * - ES256: kid.private=PKCS#8(DER, Base64), kid.public=X.509(DER, Base64) 형식. 공개키는 JWKS로 배포된다.
+ * kid가 없는 기존 토큰과 kid=default 토큰은 app.jwt.secret-key 로 검증한다.
+ * ES256 모드에서는 HS256 → ES256 전환 중 기존 토큰 유지를 위해 legacy-hmac-accept-until 시각까지만 허용하며,
+ * 그 시각은 기동 시점부터 Refresh Token 유효기간을 넘을 수 없다 (설정하지 않으면 HMAC 토큰을 받지 않는다).
+ */
+@Slf4j
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    public static final String DEFAULT_KEY_ID = "default";
+    private static final String ACTIVE_KEY_ID_PROPERTY = "active-key-id";
+    private static final String PRIVATE_KEY_SUFFIX = ".private";
+    private static final String PUBLIC_KEY_SUFFIX = ".public";
+
+    private final SecretKey defaultKey;
+    private final SecureDigestAlgorithm<?, ?> algorithm;
+    private final long legacyHmacAcceptUntil;
+    private final String configuredActiveKeyId;
+    private final Path keyFile;
+
+    private volatile KeySet keySet;
+    // ES256 모드에서 kid 없는/default 토큰 검증용 HMAC 키 (허용 기간이 끝나면 null)
+    private volatile SecretKey legacyHmacKey;
+    private volatile long keyFileLastModified = -1;
+
+    public JwtKeyRing(
+            @Value("${app.jwt.secret-key}") String secretKey,
+            @Value("${app.jwt.algorithm:HS256}") String algorithm,
+            @Value("${app.jwt.active-key-id:" + DEFAULT_KEY_ID + "}") String activeKeyId,
+            @Value("${app.jwt.key-file:}") String keyFile,
+            @Value("${app.jwt.legacy-hmac-accept-until:}") String legacyHmacAcceptUntil,
+            @Value("${app.jwt.refresh-token-expiration-ms}") long refreshTokenExpirationMs) {
+        this.defaultKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.algorithm = Jwts.SIG.get().get(algorithm.toUpperCase(Locale.ROOT));
+        if (this.algorithm != Jwts.SIG.HS256 && this.algorithm != Jwts.SIG.ES256) {
+            throw new IllegalStateException("지원하지 않는 JWT 서명 알고리즘: " + algorithm);
+        }
+        this.legacyHmacAcceptUntil = resolveLegacyHmacAcceptUntil(legacyHmacAcceptUntil, refreshTokenExpirationMs);
+        if (this.algorithm == Jwts.SIG.ES256 && System.currentTimeMillis() < this.legacyHmacAcceptUntil) {
+            this.legacyHmacKey = defaultKey;
+            log.info("ES256 모드에서 HMAC(kid 없음/default) 토큰 허용: until={}",
+                    Instant.ofEpochMilli(this.legacyHmacAcceptUntil));
+        }
+        this.configuredActiveKeyId = activeKeyId;
+        this.keyFile = StringUtils.hasText(keyFile) ? Path.of(keyFile) : null;
+
+        if (this.keyFile != null) {
+            reload();
+            if (this.keySet == null) {
+                throw new IllegalStateException("JWT 키 파일을 읽을 수 없음: " + keyFile);
+            }
+        } else if (this.algorithm == Jwts.SIG.ES256) {
+            this.keySet = buildEphemeralEcKeySet();
+        } else {
+            this.keySet = buildHmacKeySet(new Properties(), activeKeyId);
+        }
+    }
+
+    /**
+     * 발급용 활성 키 (kid, 키, 알고리즘을 하나의 불변 스냅샷으로 반환).
+     */
+    public SigningKey<?> getSigningKey() {
+        return keySet.signingKey();
+    }
+
+    /**
+     * JWKS 로 배포할 공개키 (kid → 공개키). HS256 모드에서는 비어 있다.
+     */
+    public Map<String, ECPublicKey> getPublicKeys() {
+        return keySet.publicKeys();
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String keyId = header.getKeyId();
+        Key key = keyId != null ? keySet.keys().get(keyId) : null;
+        if (key != null) {
+            return key;
+        }
+
+        if (keyId == null || DEFAULT_KEY_ID.equals(keyId)) {
+            Key hmacKey = hmacKeyForUnversionedToken();
+            if (hmacKey != null) {
+                return hmacKey;
+            }
+            throw new InvalidKeyException("HMAC 토큰 허용 기간 종료: kid=" + keyId);
+        }
+        throw new InvalidKeyException("알 수 없는 kid: " + keyId);
+    }
+
+    private Key hmacKeyForUnversionedToken() {
+        if (algorithm == Jwts.SIG.HS256) {
+            return defaultKey;
+        }
+
+        SecretKey hmacKey = legacyHmacKey;
+        if (hmacKey != null && System.currentTimeMillis() >= legacyHmacAcceptUntil) {
+            legacyHmacKey = null;
+            log.info("HMAC(kid 없음/default) 토큰 허용 기간 종료, HMAC 검증 키 제거");
+            return null;
+        }
+        return hmacKey;
+    }
+
+    // 설정값(ISO-8601)을 기동 시점 + Refresh Token 유효기간 이내로 제한 (비어 있으면 허용하지 않음)
+    private static long resolveLegacyHmacAcceptUntil(String configured, long refreshTokenExpirationMs) {
+        if (!StringUtils.hasText(configured)) {
+            return 0;
+        }
+
+        long until = Instant.parse(configured).toEpochMilli();
+        long limit = System.currentTimeMillis() + refreshTokenExpirationMs;
+        if (until > limit) {
+            log.warn("legacy-hmac-accept-until 이 Refresh Token 유효기간을 넘어 제한함: {} -> {}",
+                    configured, Instant.ofEpochMilli(limit));
+            return limit;
+        }
+        return until;
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.key-reload-interval-ms:30000}")
+    public void reload() {
+        if (keyFile == null) {
+            return;
+        }
+
+        try {
+            long lastModified = Files.getLastModifiedTime(keyFile).toMillis();
+            if (lastModified == keyFileLastModified) {
+                return;
+            }
+
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(keyFile, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+
+            String activeKeyId = properties.getProperty(ACTIVE_KEY_ID_PROPERTY, configuredActiveKeyId);
+            this.keySet = algorithm == Jwts.SIG.ES256
+                    ? buildEcKeySet(properties, activeKeyId)
+                    : buildHmacKeySet(properties, activeKeyId);
+            this.keyFileLastModified = lastModified;
+            log.info("JWT 키 갱신 완료: algorithm={}, activeKeyId={}, keyIds={}",
+                    algorithm.getId(), activeKeyId, keySet.keys().keySet());
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            // 잘못된 키 파일이면 기존 키를 그대로 사용
+            log.error("JWT 키 파일 로드 실패: {}", e.getMessage());
+        }
+    }
+
+    private KeySet buildHmacKeySet(Properties properties, String activeKeyId) {
+        Map<String, Key> keys = new HashMap<>();
+        keys.put(DEFAULT_KEY_ID, defaultKey);
+        for (String name : properties.stringPropertyNames()) {
+            if (!ACTIVE_KEY_ID_PROPERTY.equals(name)) {
+                String secret = properties.getProperty(name);
+                keys.put(name, Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+
+        Key activeKey = keys.get(activeKeyId);
+        if (activeKey == null) {
+            throw new IllegalStateException("활성 JWT 키가 없음: " + activeKeyId);
+        }
+        return new KeySet(new SigningKey<>(activeKeyId, (SecretKey) activeKey, Jwts.SIG.HS256), Map.copyOf(keys),
+                Map.of());
+    }
+
+    private KeySet buildEcKeySet(Properties properties, String activeKeyId) throws GeneralSecurityException {
+        Map<String, Key> keys = new HashMap<>();
+
+        KeyFactory keyFactory = KeyFactory.getInstance("EC");
+        Map<String, ECPublicKey> publicKeys = new HashMap<>();
+        PrivateKey activeKey = null;
+        for (String name : properties.stringPropertyNames()) {
+            if (name.endsWith(PUBLIC_KEY_SUFFIX)) {
+                String keyId = name.substring(0, name.length() - PUBLIC_KEY_SUFFIX.length());
+                ECPublicKey publicKey = (ECPublicKey) keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Base64.getMimeDecoder().decode(properties.getProperty(name))));
+                publicKeys.put(keyId, publicKey);
+                keys.put(keyId, publicKey);
+            } else if (name.equals(activeKeyId + PRIVATE_KEY_SUFFIX)) {
+                activeKey = keyFactory.generatePrivate(
+                        new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(properties.getProperty(name))));
+            }
+        }
+
+        if (activeKey == null || !publicKeys.containsKey(activeKeyId)) {
+            throw new IllegalStateException("활성 JWT 키 쌍이 없음: " + activeKeyId);
+        }
+        return new KeySet(new SigningKey<>(activeKeyId, activeKey, Jwts.SIG.ES256), Map.copyOf(keys),
+                Map.copyOf(publicKeys));
+    }
+
+    // ES256 인데 key-file 이 없으면 (로컬 개발) 재시작 시 사라지는 임시 키 쌍 사용
+    private KeySet buildEphemeralEcKeySet() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+            String keyId = "ephemeral-" + UUID.randomUUID();
+            log.warn("JWT key-file 이 없어 임시 ES256 키를 사용함 (재시작 시 발급된 토큰 무효): kid={}", keyId);
+
+            ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+            return new KeySet(new SigningKey<>(keyId, keyPair.getPrivate(), Jwts.SIG.ES256),
+                    Map.of(keyId, publicKey), Map.of(keyId, publicKey));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("ES256 키 생성 실패", e);
+        }
+    }
+
+    private record KeySet(SigningKey<?> signingKey, Map<String, Key> keys, Map<String, ECPublicKey> publicKeys) {
+    }
+}
@@ -1,61 +1,135 @@
 package com.project_ant.security.jwt;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    private final String secretKey;
+    // Stateless 인증용 Access Token 클레임
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_EMAIL = "email";
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
+    private static final List<String> DEFAULT_ROLES = List.of("ROLE_USER");
+
+    private final JwtKeyRing keyRing;
+    // JwtParser는 불변/스레드 안전하므로 한 번만 생성 (검증 키는 kid로 keyRing에서 조회)
+    private final JwtParser jwtParser;
     private final long accessTokenExpirationMs;
     private final long refreshTokenExpirationMs;
 
+    // auth.token.issue / auth.token.validate 타이머 (요청마다 조회하지 않도록 미리 등록)
+    private final Timer accessTokenIssueTimer;
+    private final Timer refreshTokenIssueTimer;
+    private final ValidateTimers accessTokenValidateTimers;
+    private final ValidateTimers refreshTokenValidateTimers;
+
     public JwtTokenProvider(
-            @Value("${app.jwt.secret-key}") String secretKey,
+            JwtKeyRing keyRing,
+            MeterRegistry meterRegistry,
             @Value("${app.jwt.access-token-expiration-ms}") long accessTokenExpirationMs,
             @Value("${app.jwt.refresh-token-expiration-ms}") long refreshTokenExpirationMs) {
-        this.secretKey = secretKey;
+        this.keyRing = keyRing;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyRing)
+                .build();
         this.accessTokenExpirationMs = accessTokenExpirationMs;
         this.refreshTokenExpirationMs = refreshTokenExpirationMs;
+        this.accessTokenIssueTimer = meterRegistry.timer("auth.token.issue", "type", "access");
+        this.refreshTokenIssueTimer = meterRegistry.timer("auth.token.issue", "type", "refresh");
+        this.accessTokenValidateTimers = ValidateTimers.register(meterRegistry, "access");
+        this.refreshTokenValidateTimers = ValidateTimers.register(meterRegistry, "refresh");
     }
 
     public String generateAccessToken(String subject) {
-        return generateToken(subject, accessTokenExpirationMs);
+        return generateToken(subject, Map.of(Claims.ID, UUID.randomUUID().toString()), accessTokenExpirationMs,
+                accessTokenIssueTimer);
     }
 
-    public String generateRefreshToken(String subject) {
-        return generateToken(subject + ":" + UUID.randomUUID(), refreshTokenExpirationMs);
+    // 필터가 DB 조회 없이 인증 객체를 만들 수 있도록 사용자 정보를 클레임에 포함
+    public String generateAccessToken(Long userId, String userKey, String email, long tokenVersion) {
+        Map<String, Object> claims = new HashMap<>();
+        // jti: 로그아웃 시 Access Token 폐기(AccessTokenRevocationList) 키
+        claims.put(Claims.ID, UUID.randomUUID().toString());
+        claims.put(CLAIM_USER_ID, userId);
+        if (email != null) {
+            claims.put(CLAIM_EMAIL, email);
+        }
+        claims.put(CLAIM_ROLES, DEFAULT_ROLES);
+        claims.put(CLAIM_TOKEN_VERSION, tokenVersion);
+
+        return generateToken(userKey, claims, accessTokenExpirationMs, accessTokenIssueTimer);
     }
 
-    private String generateToken(String subject, long expirationMs) {
+    public String generateRefreshToken(String subject, String tokenId) {
+        // subject 형식: "provider:providerId:tokenId", 토큰 ID는 jti 클레임에도 저장
+        return generateToken(subject + ":" + tokenId, Map.of(Claims.ID, tokenId), refreshTokenExpirationMs,
+                refreshTokenIssueTimer);
+    }
+
+    public String newRefreshTokenId() {
+        return UUID.randomUUID().toString();
+    }
+
+    private String generateToken(String subject, Map<String, Object> claims, long expirationMs, Timer issueTimer) {
+        long start = System.nanoTime();
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expirationMs);
+        // 키 교체와 겹쳐도 kid 와 서명 키가 어긋나지 않도록 한 번만 읽음
+        SigningKey<?> signingKey = keyRing.getSigningKey();
 
-        return Jwts.builder()
-                .setSubject(subject)
-                .setIssuedAt(now)
-                .setExpiration(expiry)
-                .signWith(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+        String token = signingKey.sign(Jwts.builder()
+                        .claims(claims)
+                        .subject(subject)
+                        .issuedAt(now)
+                        .expiration(expiry))
                 .compact();
+
+        issueTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return token;
     }
 
     public String validateAndGetSubject(String token) {
+        Claims claims = validateAndGetClaims(token);
+        return claims != null ? claims.getSubject() : null;
+    }
+
+    /**
+     * 검증 실패 시 로그 없이 JwtException 을 그대로 던진다 (일괄 introspection 용).
+     * auth.token.validate 메트릭은 validateAndGetClaims 와 같이 기록한다.
+     */
+    public Claims verifyClaims(String token) throws JwtException {
+        long start = System.nanoTime();
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)))
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            accessTokenValidateTimers.valid().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return claims;
+        } catch (ExpiredJwtException e) {
+            accessTokenValidateTimers.expired().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            accessTokenValidateTimers.invalid().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
 
-            return claims.getSubject();
+    public Claims validateAndGetClaims(String token) {
+        try {
+            return verifyClaims(token);
         } catch (ExpiredJwtException e) {
             log.warn("JWT 토큰 만료: {}", e.getMessage());
             return null;
@@ -65,25 +139,27 @@ public class JwtTokenProvider {
         }
     }
 
-    public String validateRefreshTokenAndGetUserKey(String token) {
+    public RefreshTokenInfo parseRefreshToken(String token) {
+        long start = System.nanoTime();
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)))
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            refreshTokenValidateTimers.valid().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
             String subject = claims.getSubject();
-            // subject 형식: "provider:providerId:uuid"
+            // subject 형식: "provider:providerId:tokenId" (jti가 없는 기존 토큰도 subject 끝의 UUID가 토큰 ID)
             int lastColonIndex = subject.lastIndexOf(':');
-            if (lastColonIndex > 0) {
-                return subject.substring(0, lastColonIndex);
+            if (lastColonIndex <= 0) {
+                return null;
             }
-            return null;
+
+            String tokenId = claims.getId() != null ? claims.getId() : subject.substring(lastColonIndex + 1);
+            return new RefreshTokenInfo(subject.substring(0, lastColonIndex), tokenId);
         } catch (ExpiredJwtException e) {
+            refreshTokenValidateTimers.expired().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             log.warn("리프레시 토큰 만료: {}", e.getMessage());
             return null;
         } catch (JwtException e) {
+            refreshTokenValidateTimers.invalid().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             log.error("리프레시 토큰 검증 실패: {}", e.getMessage());
             return null;
         }
@@ -92,4 +168,14 @@ public class JwtTokenProvider {
     public long getRefreshTokenExpirationMs() {
         return refreshTokenExpirationMs;
     }
+
+    private record ValidateTimers(Timer valid, Timer expired, Timer invalid) {
+
+        static ValidateTimers register(MeterRegistry meterRegistry, String type) {
+            return new ValidateTimers(
+                    meterRegistry.timer("auth.token.validate", "type", type, "result", "valid"),
+                    meterRegistry.timer("auth.token.validate", "type", type, "result", "expired"),
+                    meterRegistry.timer("auth.token.validate", "type", type, "result", "invalid"));
+        }
+    }
 }
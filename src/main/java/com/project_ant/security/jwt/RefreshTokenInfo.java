@@ -0,0 +1,10 @@
+package com.project_ant.security.jwt;
+
+/**
+ * 검증된 Refresh Token에서 꺼낸 정보.
+ *
+ * @param userKey "provider:providerId"
+ * @param tokenId 토큰 ID (jti), DB 조회 키
+ */
+public record RefreshTokenInfo(String userKey, String tokenId) {
+}
@@ -0,0 +1,20 @@
+package com.project_ant.security.jwt;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 폐기된 Access Token ID(jti) 저장소. 항목은 토큰 exp 시점까지만 유지하면 된다.
+ * 여러 인스턴스가 폐기 목록을 공유하려면 공유 저장소(Redis, DB 등) 구현으로 교체한다.
+ */
+public interface RevokedTokenStore {
+
+    void revoke(String tokenId, Instant expiresAt);
+
+    boolean isRevoked(String tokenId);
+
+    /**
+     * 아직 만료되지 않은 폐기 목록 (jti → exp). 각 인스턴스의 Bloom 필터 재구성에 사용한다.
+     */
+    Map<String, Instant> findActive(Instant now);
+}
@@ -0,0 +1,20 @@
+package com.project_ant.security.jwt;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+
+import java.security.Key;
+
+/**
+ * 토큰 발급에 쓰는 활성 키. 키 교체 중에도 kid, 키, 알고리즘이 같은 시점의 값이 되도록 한 번에 읽는다.
+ *
+ * @param keyId     JWS 헤더의 kid
+ * @param key       서명 키 (HS256: SecretKey, ES256: PrivateKey)
+ * @param algorithm 서명 알고리즘 (Jwts.SIG.HS256 / Jwts.SIG.ES256)
+ */
+public record SigningKey<K extends Key>(String keyId, K key, SecureDigestAlgorithm<? super K, ?> algorithm) {
+
+    public JwtBuilder sign(JwtBuilder builder) {
+        return builder.header().keyId(keyId).and().signWith(key, algorithm);
+    }
+}
@@ -0,0 +1,53 @@
+package com.project_ant.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project_ant.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Stateless 인증 시 Access Token의 ver 클레임이 현재 사용자 토큰 버전과 같은지 확인한다.
+ * 사용자별 버전은 version-check-ttl-ms 동안 캐시되므로, 탈퇴/강제 로그아웃은 최대 그 시간 안에 반영된다.
+ * 버전은 증가만 하므로 토큰의 ver 가 캐시 값보다 크면(다른 인스턴스에서 전체 로그아웃 후 재로그인) 바로 다시 조회한다.
+ * 크기 제한은 W-TinyLFU 로 일부 항목만 내보낸다 (한꺼번에 비워 DB 조회가 몰리지 않도록).
+ */
+@Component
+public class TokenVersionCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Long> versions;
+
+    public TokenVersionCache(
+            UserRepository userRepository,
+            @Value("${app.jwt.stateless.version-check-ttl-ms:60000}") long ttlMs,
+            @Value("${app.jwt.stateless.version-cache-max-size:100000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        Long currentVersion = versions.getIfPresent(userId);
+
+        if (currentVersion == null || tokenVersion > currentVersion) {
+            currentVersion = userRepository.findTokenVersionById(userId).orElse(null);
+            if (currentVersion == null) {
+                // 탈퇴한 사용자
+                versions.invalidate(userId);
+                return false;
+            }
+            versions.put(userId, currentVersion);
+        }
+
+        return currentVersion == tokenVersion;
+    }
+
+    public void evict(Long userId) {
+        versions.invalidate(userId);
+    }
+}
@@ -9,18 +9,31 @@ import java.util.List;
 import java.util.Map;
 
 public class CustomOAuth2User implements OAuth2User {
+    private final Long userId;
+    private final long tokenVersion;
     private final String email;
     private final String provider;
     private final String providerId;
     private final Map<String, Object> attributes;
 
-    public CustomOAuth2User(String email, String provider, String providerId, Map<String, Object> attributes) {
+    public CustomOAuth2User(Long userId, long tokenVersion, String email, String provider, String providerId,
+                            Map<String, Object> attributes) {
+        this.userId = userId;
+        this.tokenVersion = tokenVersion;
         this.email = email;
         this.provider = provider;
         this.providerId = providerId;
         this.attributes = attributes;
     }
 
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long getTokenVersion() {
+        return tokenVersion;
+    }
+
     public String getEmail() {
         return email;
     }
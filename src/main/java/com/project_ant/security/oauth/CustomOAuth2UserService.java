@@ -1,107 +1,124 @@
 package com.project_ant.security.oauth;
 
+import com.project_ant.datasource.ReadYourWritesTracker;
 import com.project_ant.domain.User;
+import com.project_ant.dto.UserSnapshot;
 import com.project_ant.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * OAuth2 로그인 사용자 로드. user-info 조회부터 사용자 upsert 까지 전체 지연을
+ * auth.oauth2.load_user 타이머(provider, result 태그)로 기록한다 (user-info 호출만은 auth.oauth2.user_info).
+ */
 @Service
-@RequiredArgsConstructor
-public class CustomOAuth2UserService extends DefaultOAuth2UserService {
+public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final UserRepository userRepository;
+    private final OAuth2UserInfoClients userInfoClients;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+
+    // Provider별 auth.oauth2.load_user 타이머 (registrationId 는 설정된 Provider 수만큼만 생긴다)
+    private final Map<String, LoadUserTimers> loadUserTimers = new ConcurrentHashMap<>();
+
+    public CustomOAuth2UserService(UserRepository userRepository, OAuth2UserInfoClients userInfoClients,
+                                   ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.userInfoClients = userInfoClients;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+    }
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
-        OAuth2User oAuth2User = super.loadUser(userRequest);
         String provider = userRequest.getClientRegistration().getRegistrationId();
+        LoadUserTimers timers = loadUserTimers.computeIfAbsent(provider, this::createLoadUserTimers);
+
+        long start = System.nanoTime();
+        Timer resultTimer = timers.errorTimer();
+        try {
+            OAuth2User user = doLoadUser(userRequest, provider);
+            resultTimer = timers.successTimer();
+            return user;
+        } finally {
+            resultTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private OAuth2User doLoadUser(OAuth2UserRequest userRequest, String provider) {
+        // Provider별 커넥션 풀/타임아웃/동시 호출 상한이 적용된 클라이언트로 user-info 조회
+        OAuth2User oAuth2User = userInfoClients.loadUser(userRequest);
 
         // Provider별 정보 추출
-        String providerId = extractProviderId(provider, oAuth2User);
-        String email = extractEmail(provider, oAuth2User);
-        String name = extractName(provider, oAuth2User);
-        String imageUrl = extractProfileImage(provider, oAuth2User);
+        OAuth2UserProfile profile = OAuth2UserProfile.of(provider, oAuth2User.getAttributes());
 
         // ProviderId가 없으면 예외 발생 (필수값)
-        if (providerId == null || providerId.isBlank()) {
+        if (profile.providerId() == null || profile.providerId().isBlank()) {
             throw new OAuth2AuthenticationException("ProviderId not found from OAuth2 provider: " + provider);
         }
 
         // DB에 사용자 등록 or 갱신 (provider + providerId 기준)
-        User user = userRepository.findByProviderAndProviderId(provider, providerId)
-                .orElseGet(() -> userRepository.save(new User(email, provider, providerId)));
-
-        // 프로필 정보 업데이트
-        if (name != null || imageUrl != null) {
-            user.updateProfile(name, imageUrl);
-            userRepository.save(user);
-        }
-
-        return new CustomOAuth2User(email, provider, providerId, oAuth2User.getAttributes());
+        return upsertUser(provider, profile, oAuth2User.getAttributes());
     }
 
-    private String extractEmail(String provider, OAuth2User oAuth2User) {
-        return switch (provider) {
-            case "google" -> (String) oAuth2User.getAttributes().get("email");
-            case "kakao" -> {
-                Map<String, Object> kakaoAccount = (Map<String, Object>) oAuth2User.getAttributes().get("kakao_account");
-                String email = kakaoAccount != null ? (String) kakaoAccount.get("email") : null;
-                // 빈 문자열을 null로 변환 (unique constraint 위반 방지)
-                yield (email != null && !email.isBlank()) ? email : null;
-            }
-            case "naver" -> {
-                Map<String, Object> response = (Map<String, Object>) oAuth2User.getAttributes().get("response");
-                yield response != null ? (String) response.get("email") : null;
-            }
-            default -> throw new OAuth2AuthenticationException("Unsupported provider: " + provider);
-        };
-    }
+    /**
+     * 신규 사용자는 프로필까지 포함해 INSERT 한 번, 기존 사용자는 프로필이 바뀐 경우에만 조건부 UPDATE 한 번.
+     * 조회는 불변 스냅샷 캐시를 거치며, 캐시된 값을 고치거나 분리된 엔티티를 merge 하지 않는다.
+     * 토큰에 넣을 ver 는 다른 인스턴스의 전체 로그아웃이 반영되도록 캐시 없이 primary 에서 PK로 읽는다
+     * (replica 라우팅 시 복제 지연으로 옛 ver 를 넣으면 발급 직후 토큰이 거부됨).
+     */
+    private CustomOAuth2User upsertUser(String provider, OAuth2UserProfile profile, Map<String, Object> attributes) {
+        String providerId = profile.providerId();
+        // 최근 이 인스턴스에서 쓰기를 한 사용자면 조회도 primary 로
+        readYourWritesTracker.pinIfRecentWrite(provider + ":" + providerId);
+        UserSnapshot user = userRepository.findSnapshotByProviderAndProviderId(provider, providerId).orElse(null);
 
-    private String extractProviderId(String provider, OAuth2User oAuth2User) {
-        return switch (provider) {
-            case "google" -> (String) oAuth2User.getAttributes().get("sub");
-            case "kakao" -> String.valueOf(oAuth2User.getAttributes().get("id"));
-            case "naver" -> {
-                Map<String, Object> response = (Map<String, Object>) oAuth2User.getAttributes().get("response");
-                yield response != null ? (String) response.get("id") : null;
+        if (user == null) {
+            User newUser = new User(profile.email(), provider, providerId);
+            newUser.updateProfile(profile.name(), profile.imageUrl());
+            try {
+                newUser = userRepository.save(newUser);
+                return new CustomOAuth2User(newUser.getId(), newUser.getTokenVersion(), newUser.getEmail(),
+                        provider, providerId, attributes);
+            } catch (DataIntegrityViolationException e) {
+                // 동시에 들어온 최초 로그인이 먼저 INSERT 한 경우 (provider, provider_id unique 위반)
+                // 다른 인스턴스가 방금 넣은 행이므로 replica 에는 아직 없을 수 있음
+                readYourWritesTracker.pinToPrimary();
+                user = userRepository.findSnapshotByProviderAndProviderId(provider, providerId).orElseThrow(() -> e);
             }
-            default -> null;
-        };
+        }
+
+        if (user.isProfileChanged(profile.name(), profile.imageUrl())) {
+            userRepository.updateProfile(user.id(), provider, providerId, profile.name(), profile.imageUrl(),
+                    LocalDateTime.now());
+        }
+
+        readYourWritesTracker.pinToPrimary();
+        long tokenVersion = userRepository.findTokenVersionById(user.id())
+                .orElseThrow(() -> new OAuth2AuthenticationException(new OAuth2Error("user_not_found"),
+                        "User not found: " + provider));
+        return new CustomOAuth2User(user.id(), tokenVersion, user.email(), provider, providerId, attributes);
     }
 
-    private String extractName(String provider, OAuth2User oAuth2User) {
-        return switch (provider) {
-            case "google" -> (String) oAuth2User.getAttributes().get("name");
-            case "kakao" -> {
-                Map<String, Object> properties = (Map<String, Object>) oAuth2User.getAttributes().get("properties");
-                yield properties != null ? (String) properties.get("nickname") : null;
-            }
-            case "naver" -> {
-                Map<String, Object> response = (Map<String, Object>) oAuth2User.getAttributes().get("response");
-                yield response != null ? (String) response.get("name") : null;
-            }
-            default -> null;
-        };
+    private LoadUserTimers createLoadUserTimers(String provider) {
+        return new LoadUserTimers(
+                meterRegistry.timer("auth.oauth2.load_user", "provider", provider, "result", "success"),
+                meterRegistry.timer("auth.oauth2.load_user", "provider", provider, "result", "error"));
     }
 
-    private String extractProfileImage(String provider, OAuth2User oAuth2User) {
-        return switch (provider) {
-            case "google" -> (String) oAuth2User.getAttributes().get("picture");
-            case "kakao" -> {
-                Map<String, Object> properties = (Map<String, Object>) oAuth2User.getAttributes().get("properties");
-                yield properties != null ? (String) properties.get("profile_image") : null;
-            }
-            case "naver" -> {
-                Map<String, Object> response = (Map<String, Object>) oAuth2User.getAttributes().get("response");
-                yield response != null ? (String) response.get("profile_image") : null;
-            }
-            default -> null;
-        };
+    private record LoadUserTimers(Timer successTimer, Timer errorTimer) {
     }
 }
@@ -0,0 +1,247 @@
+package com.project_ant.security.oauth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * OAuth2 인가 요청(state, nonce, redirect_uri)을 HttpSession 대신 암호화 쿠키에 저장한다.
+ * 로그인 시작과 콜백이 서로 다른 인스턴스로 가도 처리되므로 세션 복제나 sticky session 이 필요 없다.
+ * 쿠키 값: Base64URL(IV 12바이트 + AES-256-GCM(만료시각 8바이트 + Deflate 압축한 JSON)).
+ * JSON 에는 인가 요청을 다시 만드는 데 필요한 필드만 담고 OAuth2AuthorizationRequest.authorizationCode() 로 복원한다
+ * (Java 역직렬화를 쓰지 않음). GCM 인증 태그로 위·변조를 막는다.
+ * 암호화 키는 전용 설정(OAUTH2_COOKIE_SECRET)만 사용하며, 비어 있거나 개발용 기본값이면 기동하지 않는다.
+ */
+@Slf4j
+@Component
+public class HttpCookieOAuth2AuthorizationRequestRepository
+        implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    public static final String COOKIE_NAME = "oauth2_auth_request";
+
+    // application.yml 의 개발용 JWT 기본값 (쿠키 키로 쓰면 누구나 쿠키를 만들 수 있음)
+    private static final String DEVELOPMENT_DEFAULT_SECRET = "default-secret-key-for-development-only-change-in-production";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+    // 브라우저 쿠키 한도(약 4KB) 안에 들어가도록 제한
+    private static final int MAX_COOKIE_VALUE_LENGTH = 3800;
+
+    private final SecretKeySpec key;
+    private final int expireSeconds;
+    private final boolean secure;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public HttpCookieOAuth2AuthorizationRequestRepository(
+            @Value("${app.oauth.authorization-request-cookie.secret:}") String secret,
+            @Value("${app.oauth.authorization-request-cookie.expire-seconds:180}") int expireSeconds,
+            @Value("${app.oauth.authorization-request-cookie.secure:true}") boolean secure) {
+        if (!StringUtils.hasText(secret) || DEVELOPMENT_DEFAULT_SECRET.equals(secret)) {
+            throw new IllegalStateException(
+                    "OAuth2 인가 요청 쿠키 키(app.oauth.authorization-request-cookie.secret)를 별도로 설정해야 함");
+        }
+        this.key = new SecretKeySpec(deriveKey(secret), "AES");
+        this.expireSeconds = expireSeconds;
+        this.secure = secure;
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String value = readCookie(request);
+        return value != null ? decrypt(value) : null;
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request, HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            deleteCookie(response);
+            return;
+        }
+
+        String value = encrypt(authorizationRequest);
+        if (value.length() > MAX_COOKIE_VALUE_LENGTH) {
+            throw new IllegalStateException("OAuth2 인가 요청 쿠키 크기 초과: " + value.length());
+        }
+
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie(value, expireSeconds).toString());
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+                                                                 HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        deleteCookie(response);
+        return authorizationRequest;
+    }
+
+    private String encrypt(OAuth2AuthorizationRequest authorizationRequest) {
+        byte[] serialized = compress(toJson(authorizationRequest));
+        long expiresAt = System.currentTimeMillis() + expireSeconds * 1000L;
+        byte[] plaintext = ByteBuffer.allocate(Long.BYTES + serialized.length)
+                .putLong(expiresAt)
+                .put(serialized)
+                .array();
+
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            secureRandom.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+            byte[] ciphertext = cipher.doFinal(plaintext);
+
+            byte[] value = ByteBuffer.allocate(IV_LENGTH + ciphertext.length).put(iv).put(ciphertext).array();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("OAuth2 인가 요청 암호화 실패", e);
+        }
+    }
+
+    private OAuth2AuthorizationRequest decrypt(String value) {
+        try {
+            byte[] decoded = Base64.getUrlDecoder().decode(value);
+            if (decoded.length <= IV_LENGTH) {
+                return null;
+            }
+
+            Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, decoded, 0, IV_LENGTH));
+            ByteBuffer plaintext = ByteBuffer.wrap(cipher.doFinal(decoded, IV_LENGTH, decoded.length - IV_LENGTH));
+
+            if (plaintext.getLong() < System.currentTimeMillis()) {
+                log.warn("만료된 OAuth2 인가 요청 쿠키");
+                return null;
+            }
+
+            byte[] serialized = new byte[plaintext.remaining()];
+            plaintext.get(serialized);
+            return fromJson(decompress(serialized));
+        } catch (GeneralSecurityException | IOException | IllegalArgumentException e) {
+            log.warn("잘못된 OAuth2 인가 요청 쿠키: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] toJson(OAuth2AuthorizationRequest request) {
+        StoredAuthorizationRequest stored = new StoredAuthorizationRequest(
+                request.getAuthorizationUri(),
+                request.getClientId(),
+                request.getRedirectUri(),
+                request.getScopes(),
+                request.getState(),
+                request.getAdditionalParameters(),
+                request.getAttributes(),
+                request.getAuthorizationRequestUri());
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(stored);
+        } catch (IOException e) {
+            throw new IllegalStateException("OAuth2 인가 요청 직렬화 실패", e);
+        }
+    }
+
+    // 위·변조 검증(GCM)을 통과한 값만 들어오며, 알려진 필드 외에는 만들지 않는다
+    private static OAuth2AuthorizationRequest fromJson(byte[] json) throws IOException {
+        StoredAuthorizationRequest stored = OBJECT_MAPPER.readValue(json, StoredAuthorizationRequest.class);
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(stored.authorizationUri())
+                .clientId(stored.clientId())
+                .redirectUri(stored.redirectUri())
+                .scopes(stored.scopes())
+                .state(stored.state())
+                .additionalParameters(stored.additionalParameters())
+                .attributes(stored.attributes())
+                .authorizationRequestUri(stored.authorizationRequestUri())
+                .build();
+    }
+
+    private static byte[] compress(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 2);
+        try (OutputStream out = new DeflaterOutputStream(buffer)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] data) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static String readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void deleteCookie(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie("", 0).toString());
+    }
+
+    // Provider 에서 돌아오는 top-level GET 리다이렉트에도 전송되도록 SameSite=Lax
+    private ResponseCookie cookie(String value, int maxAgeSeconds) {
+        return ResponseCookie.from(COOKIE_NAME, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite("Lax")
+                .maxAge(maxAgeSeconds)
+                .build();
+    }
+
+    // 설정 문자열 길이와 무관하게 AES-256 키로 사용하기 위해 용도 접두사와 함께 SHA-256
+    private static byte[] deriveKey(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(("oauth2-authorization-request:" + secret).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 쿠키에 저장하는 인가 요청 필드 (문자열/컬렉션만 사용)
+    record StoredAuthorizationRequest(String authorizationUri, String clientId, String redirectUri,
+                                      Set<String> scopes, String state, Map<String, Object> additionalParameters,
+                                      Map<String, Object> attributes, String authorizationRequestUri) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.project_ant.security.oauth;
+
+import com.project_ant.dto.TokenResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 인스턴스용 기본 로그인 코드 저장소. 교환되지 않고 만료된 코드는 주기적으로 정리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.oauth.login-code.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginCodeStore implements LoginCodeStore {
+
+    private final Map<String, Entry> codes = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(String code, TokenResponse tokens, Instant expiresAt) {
+        codes.put(code, new Entry(tokens, expiresAt));
+    }
+
+    @Override
+    public TokenResponse consume(String code) {
+        // remove 로 꺼내므로 동시에 같은 코드를 교환해도 한 요청만 성공
+        Entry entry = codes.remove(code);
+        if (entry == null || !entry.expiresAt().isAfter(Instant.now())) {
+            return null;
+        }
+        return entry.tokens();
+    }
+
+    @Scheduled(fixedDelayString = "${app.oauth.login-code.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        codes.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+    }
+
+    private record Entry(TokenResponse tokens, Instant expiresAt) {
+    }
+}
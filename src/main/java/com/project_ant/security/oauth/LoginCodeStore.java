@@ -0,0 +1,19 @@
+package com.project_ant.security.oauth;
+
+import com.project_ant.dto.TokenResponse;
+
+import java.time.Instant;
+
+/**
+ * OAuth2 로그인 성공 시 발급한 1회용 코드 → 토큰 저장소.
+ * 로그인 콜백과 교환 요청이 다른 인스턴스로 갈 수 있으면 공유 저장소(Redis 등) 구현으로 교체한다.
+ */
+public interface LoginCodeStore {
+
+    void save(String code, TokenResponse tokens, Instant expiresAt);
+
+    /**
+     * 코드를 꺼내면서 삭제한다 (1회용). 없거나 만료되었으면 null.
+     */
+    TokenResponse consume(String code);
+}
@@ -1,6 +1,10 @@
 package com.project_ant.security.oauth;
 
+import com.project_ant.datasource.ReadYourWritesTracker;
+import com.project_ant.domain.RefreshToken;
 import com.project_ant.domain.User;
+import com.project_ant.dto.TokenResponse;
+import com.project_ant.repository.RefreshTokenRepository;
 import com.project_ant.repository.UserRepository;
 import com.project_ant.security.jwt.JwtTokenProvider;
 import jakarta.servlet.ServletException;
@@ -15,7 +19,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
+import java.security.SecureRandom;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Base64;
 
 @Component
 @RequiredArgsConstructor
@@ -24,10 +31,17 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final LoginCodeStore loginCodeStore;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final SecureRandom secureRandom = new SecureRandom();
 
     @Value("${app.oauth.redirect-success-uri}")
     private String redirectUri;
 
+    @Value("${app.oauth.login-code.expire-seconds:60}")
+    private long loginCodeExpireSeconds;
+
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) throws IOException, ServletException {
@@ -36,32 +50,43 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         // provider:providerId 형태로 사용자 식별
         String userKey = oAuth2User.getUserKey();
 
-        // Access Token 생성
-        String accessToken = jwtTokenProvider.generateAccessToken(userKey);
+        // Access Token 생성 (Stateless 인증용 클레임 포함, loadUser 에서 확정된 사용자 정보 사용)
+        String accessToken = jwtTokenProvider.generateAccessToken(
+                oAuth2User.getUserId(), userKey, oAuth2User.getEmail(), oAuth2User.getTokenVersion());
 
         // Refresh Token 생성
-        String refreshToken = jwtTokenProvider.generateRefreshToken(userKey);
-
-        // DB에서 사용자 조회 후 리프레시 토큰 저장
-        userRepository.findByProviderAndProviderId(oAuth2User.getProvider(), oAuth2User.getProviderId())
-                .ifPresent(user -> {
-                    LocalDateTime expiryDate = LocalDateTime.now()
-                            .plusSeconds(jwtTokenProvider.getRefreshTokenExpirationMs() / 1000);
-                    user.updateRefreshToken(refreshToken, expiryDate);
-                    userRepository.save(user);
-                    log.debug("리프레시 토큰 저장 완료: userId={}", user.getId());
-                });
+        String refreshTokenId = jwtTokenProvider.newRefreshTokenId();
+        String refreshToken = jwtTokenProvider.generateRefreshToken(userKey, refreshTokenId);
+
+        // 기기별 세션으로 리프레시 토큰 저장 (사용자는 재조회 없이 ID 참조만 사용, INSERT 1회)
+        LocalDateTime expiryDate = LocalDateTime.now()
+                .plusSeconds(jwtTokenProvider.getRefreshTokenExpirationMs() / 1000);
+        User user = userRepository.getReferenceById(oAuth2User.getUserId());
+        refreshTokenRepository.save(new RefreshToken(refreshTokenId, user, expiryDate));
+        // 방금 생성/갱신된 사용자 행을 다음 요청이 replica 에서 못 찾는 일이 없도록
+        readYourWritesTracker.markWrite(userKey);
+        log.debug("리프레시 토큰 저장 완료: userId={}", oAuth2User.getUserId());
 
         log.info("OAuth2 login success - provider: {}, providerId: {}",
                 oAuth2User.getProvider(), oAuth2User.getProviderId());
 
-        // 프론트엔드로 리다이렉트 (토큰 포함)
+        // 토큰 대신 1회용 코드만 담아 리다이렉트 (URL 길이, 접근 로그 노출 방지) → POST /api/auth/exchange 로 교환
+        String code = newLoginCode();
+        loginCodeStore.save(code, TokenResponse.of(accessToken, refreshToken),
+                Instant.now().plusSeconds(loginCodeExpireSeconds));
+
         String targetUrl = UriComponentsBuilder.fromUriString(redirectUri)
-                .queryParam("accessToken", accessToken)
-                .queryParam("refreshToken", refreshToken)
+                .queryParam("code", code)
                 .build()
                 .toUriString();
 
         getRedirectStrategy().sendRedirect(request, response, targetUrl);
     }
+
+    // 256비트 난수 (추측 불가한 opaque 코드)
+    private String newLoginCode() {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
 }
@@ -0,0 +1,67 @@
+package com.project_ant.security.oauth;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OAuth2 user-info 호출용 HTTP 클라이언트 설정.
+ * defaults 를 기본으로 하고, providers.{registrationId} 에 지정한 값만 덮어쓴다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.oauth.user-info-client")
+public class OAuth2UserInfoClientProperties {
+
+    private Settings defaults = Settings.withDefaults();
+    private Map<String, Settings> providers = new HashMap<>();
+
+    public Settings forRegistration(String registrationId) {
+        Settings override = providers.get(registrationId);
+        return override != null ? defaults.merge(override) : defaults;
+    }
+
+    @Getter
+    @Setter
+    public static class Settings {
+
+        private Integer connectTimeoutMs;
+        private Integer readTimeoutMs;
+        private Integer maxConnections;       // 커넥션 풀 크기
+        private Integer maxConcurrentCalls;   // 동시 호출 상한 (bulkhead)
+        private Integer bulkheadWaitMs;       // 동시 호출 상한 도달 시 대기 시간
+        private Integer retries;              // I/O 오류 재시도 횟수
+        private Integer idleTimeoutMs;        // 유휴 커넥션 정리 시간
+
+        static Settings withDefaults() {
+            Settings settings = new Settings();
+            settings.connectTimeoutMs = 2000;
+            settings.readTimeoutMs = 3000;
+            settings.maxConnections = 50;
+            settings.maxConcurrentCalls = 50;
+            settings.bulkheadWaitMs = 500;
+            settings.retries = 1;
+            settings.idleTimeoutMs = 30000;
+            return settings;
+        }
+
+        Settings merge(Settings override) {
+            Settings merged = new Settings();
+            merged.connectTimeoutMs = pick(override.connectTimeoutMs, connectTimeoutMs);
+            merged.readTimeoutMs = pick(override.readTimeoutMs, readTimeoutMs);
+            merged.maxConnections = pick(override.maxConnections, maxConnections);
+            merged.maxConcurrentCalls = pick(override.maxConcurrentCalls, maxConcurrentCalls);
+            merged.bulkheadWaitMs = pick(override.bulkheadWaitMs, bulkheadWaitMs);
+            merged.retries = pick(override.retries, retries);
+            merged.idleTimeoutMs = pick(override.idleTimeoutMs, idleTimeoutMs);
+            return merged;
+        }
+
+        private static Integer pick(Integer override, Integer defaultValue) {
+            return override != null ? override : defaultValue;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.project_ant.security.oauth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provider(registrationId)별 user-info 호출 클라이언트.
+ * 각 Provider는 전용 커넥션 풀(keep-alive), connect/read 타임아웃, 재시도, 동시 호출 상한(bulkhead)을 가진다.
+ * 느린 Provider 하나가 다른 Provider 로그인이나 요청 스레드 전체를 잡아먹지 않도록 분리한다.
+ * 호출 지연은 auth.oauth2.user_info 타이머(provider, result 태그)로 기록한다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(OAuth2UserInfoClientProperties.class)
+public class OAuth2UserInfoClients implements DisposableBean {
+
+    private final OAuth2UserInfoClientProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, UserInfoClient> clients = new ConcurrentHashMap<>();
+
+    public OAuth2UserInfoClients(OAuth2UserInfoClientProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public OAuth2User loadUser(OAuth2UserRequest userRequest) {
+        String registrationId = userRequest.getClientRegistration().getRegistrationId();
+        return clients.computeIfAbsent(registrationId, this::createClient).loadUser(userRequest);
+    }
+
+    private UserInfoClient createClient(String registrationId) {
+        OAuth2UserInfoClientProperties.Settings settings = properties.forRegistration(registrationId);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.getMaxConnections())
+                .setMaxConnPerRoute(settings.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(settings.getConnectTimeoutMs()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(settings.getReadTimeoutMs()))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setRetryStrategy(new DefaultHttpRequestRetryStrategy(settings.getRetries(), TimeValue.ofMilliseconds(100)))
+                .evictIdleConnections(TimeValue.ofMilliseconds(settings.getIdleTimeoutMs()))
+                .build();
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setConnectionRequestTimeout(Duration.ofMillis(settings.getBulkheadWaitMs()));
+
+        // DefaultOAuth2UserService 기본 RestTemplate 과 같은 에러 처리
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+
+        DefaultOAuth2UserService delegate = new DefaultOAuth2UserService();
+        delegate.setRestOperations(restTemplate);
+
+        log.info("OAuth2 user-info 클라이언트 생성: registrationId={}, maxConnections={}, maxConcurrentCalls={}, " +
+                        "connectTimeoutMs={}, readTimeoutMs={}",
+                registrationId, settings.getMaxConnections(), settings.getMaxConcurrentCalls(),
+                settings.getConnectTimeoutMs(), settings.getReadTimeoutMs());
+
+        return new UserInfoClient(registrationId, delegate, httpClient,
+                new Semaphore(settings.getMaxConcurrentCalls()), settings.getBulkheadWaitMs(),
+                userInfoTimer(registrationId, "success"),
+                userInfoTimer(registrationId, "error"),
+                userInfoTimer(registrationId, "rejected"));
+    }
+
+    private Timer userInfoTimer(String registrationId, String result) {
+        return meterRegistry.timer("auth.oauth2.user_info", "provider", registrationId, "result", result);
+    }
+
+    @Override
+    public void destroy() {
+        clients.values().forEach(UserInfoClient::close);
+    }
+
+    private record UserInfoClient(String registrationId, DefaultOAuth2UserService delegate,
+                                  CloseableHttpClient httpClient, Semaphore bulkhead, long bulkheadWaitMs,
+                                  Timer successTimer, Timer errorTimer, Timer rejectedTimer) {
+
+        OAuth2User loadUser(OAuth2UserRequest userRequest) {
+            long start = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+
+            if (!acquired) {
+                rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                log.warn("OAuth2 user-info 동시 호출 상한 초과: registrationId={}", registrationId);
+                throw new OAuth2AuthenticationException(new OAuth2Error("user_info_unavailable"),
+                        "Too many concurrent user-info requests: " + registrationId);
+            }
+
+            Timer resultTimer = errorTimer;
+            try {
+                OAuth2User oAuth2User = delegate.loadUser(userRequest);
+                resultTimer = successTimer;
+                return oAuth2User;
+            } finally {
+                bulkhead.release();
+                resultTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        void close() {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.warn("OAuth2 user-info 클라이언트 종료 실패: registrationId={}", registrationId);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.project_ant.security.oauth;
+
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+
+import java.util.Map;
+
+/**
+ * Provider별 user-info 응답에서 꺼낸 사용자 프로필.
+ * 응답 구조(google: 최상위, kakao: kakao_account/properties, naver: response)에 맞춰 한 번에 추출한다.
+ */
+public record OAuth2UserProfile(String providerId, String email, String name, String imageUrl) {
+
+    @SuppressWarnings("unchecked")
+    public static OAuth2UserProfile of(String provider, Map<String, Object> attributes) {
+        return switch (provider) {
+            case "google" -> new OAuth2UserProfile(
+                    (String) attributes.get("sub"),
+                    (String) attributes.get("email"),
+                    (String) attributes.get("name"),
+                    (String) attributes.get("picture"));
+            case "kakao" -> {
+                Map<String, Object> kakaoAccount = (Map<String, Object>) attributes.get("kakao_account");
+                Map<String, Object> properties = (Map<String, Object>) attributes.get("properties");
+                String email = kakaoAccount != null ? (String) kakaoAccount.get("email") : null;
+                yield new OAuth2UserProfile(
+                        String.valueOf(attributes.get("id")),
+                        // 빈 문자열을 null로 변환 (unique constraint 위반 방지)
+                        (email != null && !email.isBlank()) ? email : null,
+                        properties != null ? (String) properties.get("nickname") : null,
+                        properties != null ? (String) properties.get("profile_image") : null);
+            }
+            case "naver" -> {
+                Map<String, Object> response = (Map<String, Object>) attributes.get("response");
+                yield response == null
+                        ? new OAuth2UserProfile(null, null, null, null)
+                        : new OAuth2UserProfile(
+                                (String) response.get("id"),
+                                (String) response.get("email"),
+                                (String) response.get("name"),
+                                (String) response.get("profile_image"));
+            }
+            default -> throw new OAuth2AuthenticationException("Unsupported provider: " + provider);
+        };
+    }
+}
@@ -0,0 +1,45 @@
+-- 기준 스키마. 신규 DB는 테이블을 만들고, ddl-auto 로 만들어진 기존 DB(baseline-version 0)는
+-- 이후에 추가된 컬럼/인덱스만 채운다. 모든 문장은 IF NOT EXISTS 라 다시 실행해도 안전하다.
+-- 인덱스는 UserRepository / RefreshTokenRepository 조회 조건별로 명시한다.
+
+CREATE TABLE IF NOT EXISTS `user` (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    email         VARCHAR(255),
+    password      VARCHAR(100),
+    provider      VARCHAR(255),
+    provider_id   VARCHAR(255) NOT NULL,
+    name          VARCHAR(100),
+    image_url     VARCHAR(500),
+    token_version BIGINT       NOT NULL DEFAULT 0,
+    create_at     DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    -- findByEmail
+    CONSTRAINT uk_user_email UNIQUE (email),
+    -- findByProviderAndProviderId (OAuth2 로그인, 토큰 userKey 인증)
+    CONSTRAINT uk_user_provider_provider_id UNIQUE (provider, provider_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- findTokenVersionById (Stateless 인증), findUpdatedAtById (ETag) 이전에 만들어진 스키마 보완
+ALTER TABLE `user`
+    ADD COLUMN IF NOT EXISTS token_version BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+CREATE TABLE IF NOT EXISTS refresh_token (
+    id          VARCHAR(36) NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    previous_id VARCHAR(36),
+    expires_at  DATETIME(6) NOT NULL,
+    create_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES `user` (id) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+ALTER TABLE refresh_token ADD COLUMN IF NOT EXISTS previous_id VARCHAR(36);
+
+-- deleteAllByUserId (전체 로그아웃)
+CREATE INDEX IF NOT EXISTS idx_refresh_token_user_id ON refresh_token (user_id);
+-- deleteExpiredBatch (만료 토큰 정리 배치)
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expires_at ON refresh_token (expires_at);
+-- existsByPreviousId (재사용 탐지)
+CREATE INDEX IF NOT EXISTS idx_refresh_token_previous_id ON refresh_token (previous_id);
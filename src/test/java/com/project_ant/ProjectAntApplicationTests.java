@@ -3,7 +3,7 @@ package com.project_ant;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "app.oauth.authorization-request-cookie.secret=test-oauth2-cookie-secret")
 class ProjectAntApplicationTests {
 
     @Test
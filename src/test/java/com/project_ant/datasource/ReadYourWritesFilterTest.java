@@ -0,0 +1,85 @@
+package com.project_ant.datasource;
+
+import com.project_ant.controller.AuthController;
+import com.project_ant.dto.UserSnapshot;
+import com.project_ant.repository.RefreshTokenRepository;
+import com.project_ant.repository.UserRepository;
+import com.project_ant.security.jwt.AccessTokenRevocationList;
+import com.project_ant.security.jwt.InMemoryRevokedTokenStore;
+import com.project_ant.security.jwt.JwtKeyRing;
+import com.project_ant.security.jwt.JwtTokenProvider;
+import com.project_ant.security.oauth.LoginCodeStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /api/auth/refresh 는 JwtAuthenticationFilter 를 거치지 않지만 Rotation 후 markWrite 로 primary 고정을 건다.
+ * MockMvc 는 요청을 테스트 스레드에서 처리하므로, 요청이 끝난 뒤 같은 스레드에 고정이 남지 않는지 확인한다.
+ */
+class ReadYourWritesFilterTest {
+
+    private static final String SECRET = "read-your-writes-test-secret-key-0123456789abcdef";
+    private static final String USER_KEY = "google:1";
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesTracker.clear();
+    }
+
+    @Test
+    void refreshLeavesNoPinOnThread() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                new JwtKeyRing(SECRET, "HS256", JwtKeyRing.DEFAULT_KEY_ID, "", "", 604800000), meterRegistry, 1800000, 604800000);
+
+        RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+        when(refreshTokenRepository.rotate(anyString(), anyString(), any(), any())).thenReturn(1);
+
+        // Rotation(markWrite) 이후의 사용자 조회 시점에 고정되어 있는지 기록
+        AtomicBoolean pinnedDuringRequest = new AtomicBoolean();
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findSnapshotByProviderAndProviderId("google", "1")).thenAnswer(invocation -> {
+            pinnedDuringRequest.set(ReadYourWritesTracker.isPinnedToPrimary());
+            return Optional.of(new UserSnapshot(1L, "user@example.com", "google", "1", null, null));
+        });
+        when(userRepository.findTokenVersionById(anyLong())).thenReturn(Optional.of(0L));
+
+        AuthController authController = new AuthController(
+                jwtTokenProvider,
+                refreshTokenRepository,
+                userRepository,
+                new AccessTokenRevocationList(new InMemoryRevokedTokenStore(), 1000, 0.01),
+                mock(LoginCodeStore.class),
+                new ReadYourWritesTracker(true, 2000, 1000),
+                meterRegistry);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(authController)
+                .addFilters(new ReadYourWritesFilter())
+                .build();
+
+        String refreshToken = jwtTokenProvider.generateRefreshToken(USER_KEY, jwtTokenProvider.newRefreshTokenId());
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(pinnedDuringRequest).isTrue();
+        assertThat(ReadYourWritesTracker.isPinnedToPrimary()).isFalse();
+    }
+}
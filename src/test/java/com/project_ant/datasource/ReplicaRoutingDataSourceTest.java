@@ -0,0 +1,118 @@
+package com.project_ant.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 H2 두 개(primary, replica)로 라우팅 확인. 각 DB의 node 테이블에 자기 이름이 들어 있다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = embedded("primary");
+        replica = embedded("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesTracker.clear();
+        new JdbcTemplate(primary).execute("DROP TABLE node");
+        new JdbcTemplate(replica).execute("DROP TABLE node");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        Routing routing = routing(Map.of("replica-1", replica));
+
+        assertThat(routing.read()).isEqualTo("replica");
+        assertThat(routing.write()).isEqualTo("primary");
+    }
+
+    @Test
+    void pinnedRequestReadsFromPrimary() {
+        Routing routing = routing(Map.of("replica-1", replica));
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(true, 2000, 1000);
+
+        tracker.markWrite("google:1");
+        assertThat(routing.read()).isEqualTo("primary");
+
+        // 다음 요청: 같은 사용자는 window 동안 primary, 다른 사용자는 replica
+        ReadYourWritesTracker.clear();
+        tracker.pinIfRecentWrite("kakao:2");
+        assertThat(routing.read()).isEqualTo("replica");
+        tracker.pinIfRecentWrite("google:1");
+        assertThat(routing.read()).isEqualTo("primary");
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimaryUntilHealthy() {
+        DriverManagerDataSource broken = new DriverManagerDataSource("jdbc:h2:tcp://127.0.0.1:1/unreachable", "sa", "");
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", broken);
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replicas);
+        Routing routing = new Routing(routingDataSource);
+
+        assertThat(routing.read()).isEqualTo("primary");
+
+        // 복구되면 주기 점검에서 다시 사용
+        broken.setUrl(memoryUrl("replica"));
+        routingDataSource.checkReplicas();
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    private static DriverManagerDataSource embedded(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(memoryUrl(name), "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static String memoryUrl(String name) {
+        return "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1";
+    }
+
+    private Routing routing(Map<String, DataSource> replicas) {
+        return new Routing(new ReplicaRoutingDataSource(primary, replicas));
+    }
+
+    private static final class Routing {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        private Routing(ReplicaRoutingDataSource routingDataSource) {
+            DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        String read() {
+            return readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+
+        String write() {
+            return readWrite.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.project_ant.load;
+
+import com.project_ant.security.oauth.HttpCookieOAuth2AuthorizationRequestRepository;
+import com.project_ant.support.OAuth2ProviderStubServer;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 OAuth2 Provider(user-info 응답 200ms) 상황에서 실제 애플리케이션의 로그인 동시성/지연 측정.
+ * RANDOM_PORT 로 앱을 띄우고 provider-stub 프로필로 token/user-info 호출을 로컬 스텁에 보낸다.
+ * 로그인 1회 = GET /oauth2/authorization/kakao (state, 인가 요청 쿠키) → GET /login/oauth2/code/kakao 콜백
+ * (token 교환, user-info 조회, 사용자 upsert, Refresh Token 저장, 로그인 코드 리다이렉트).
+ * 동시 처리 수는 스텁이 동시에 받은 user-info 요청 수의 최댓값으로 측정한다.
+ * 서브클래스가 가상 스레드 설정만 바꿔 같은 부하를 준다. DB 는 MariaDB 컨테이너를 사용한다 (Docker 필요).
+ *
+ * 실행: ./gradlew loadTest -PjavaVersion=21
+ */
+@Tag("load")
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("provider-stub")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.security.oauth2.client.registration.google.client-id=stub",
+        "spring.security.oauth2.client.registration.google.client-secret=stub",
+        "spring.security.oauth2.client.registration.kakao.client-id=stub",
+        "spring.security.oauth2.client.registration.kakao.client-secret=stub",
+        "spring.security.oauth2.client.registration.naver.client-id=stub",
+        "spring.security.oauth2.client.registration.naver.client-secret=stub",
+        "spring.jpa.show-sql=false",
+        "server.tomcat.threads.max=" + OAuth2LoginLoadTest.TOMCAT_MAX_THREADS,
+        "app.oauth.authorization-request-cookie.secure=false",
+        "app.oauth.authorization-request-cookie.secret=load-test-oauth2-cookie-secret",
+        // user-info 클라이언트 bulkhead 가 먼저 막지 않도록 (요청 처리 스레드 모델만 비교)
+        "app.oauth.user-info-client.defaults.max-connections=1000",
+        "app.oauth.user-info-client.defaults.max-concurrent-calls=1000",
+        "app.oauth.user-info-client.defaults.bulkhead-wait-ms=10000",
+        "app.oauth.user-info-client.defaults.read-timeout-ms=10000"
+})
+abstract class OAuth2LoginLoadTest {
+
+    static final int TOMCAT_MAX_THREADS = 200;
+    private static final int CLIENT_CONCURRENCY = 400;
+    private static final int WARMUP_LOGINS = 400;
+    private static final int MEASURED_LOGINS = 2000;
+    private static final long PROVIDER_DELAY_MS = 200;
+
+    private static final Pattern STATE_PARAMETER = Pattern.compile("[?&]state=([^&]+)");
+    private static final String COOKIE_PREFIX = HttpCookieOAuth2AuthorizationRequestRepository.COOKIE_NAME + "=";
+
+    private static final OAuth2ProviderStubServer PROVIDER_STUB = startProviderStub();
+    private static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${app.oauth.redirect-success-uri}")
+    private String redirectSuccessUri;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        // 두 서브클래스(컨텍스트)가 같은 컨테이너를 사용 (이미 시작됐으면 무시됨)
+        MARIADB.start();
+        registry.add("spring.datasource.url", MARIADB::getJdbcUrl);
+        registry.add("spring.datasource.username", MARIADB::getUsername);
+        registry.add("spring.datasource.password", MARIADB::getPassword);
+        registry.add("PROVIDER_STUB_PORT", PROVIDER_STUB::port);
+    }
+
+    protected Result measure(String mode) throws Exception {
+        // 첫 로그인은 사용자를 생성하므로 단독으로 (동시 INSERT 충돌 방지)
+        assertThat(login()).as("첫 로그인").isTrue();
+        assertThat(runLogins(WARMUP_LOGINS).failures()).as("워밍업 실패 수").isZero();
+
+        PROVIDER_STUB.resetMaxInFlightUserInfoRequests();
+        long start = System.nanoTime();
+        Latencies latencies = runLogins(MEASURED_LOGINS);
+        long elapsedNanos = System.nanoTime() - start;
+
+        long[] sorted = latencies.nanos();
+        Arrays.sort(sorted);
+        Result result = new Result(
+                mode,
+                PROVIDER_STUB.maxInFlightUserInfoRequests(),
+                MEASURED_LOGINS * 1_000_000_000.0 / elapsedNanos,
+                TimeUnit.NANOSECONDS.toMillis(sorted[MEASURED_LOGINS / 2]),
+                TimeUnit.NANOSECONDS.toMillis(sorted[(int) (MEASURED_LOGINS * 0.99) - 1]),
+                latencies.failures());
+        System.out.println(result);
+        return result;
+    }
+
+    // CLIENT_CONCURRENCY 개 클라이언트가 쉬지 않고 로그인 (각 로그인의 시작~완료 시간 기록)
+    private Latencies runLogins(int count) throws Exception {
+        long[] nanos = new long[count];
+        List<Future<Boolean>> futures = new ArrayList<>(count);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENT_CONCURRENCY);
+        try {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(clients.submit(() -> {
+                    long start = System.nanoTime();
+                    boolean success = login();
+                    nanos[index] = System.nanoTime() - start;
+                    return success;
+                }));
+            }
+
+            int failures = 0;
+            for (Future<Boolean> future : futures) {
+                if (!future.get(2, TimeUnit.MINUTES)) {
+                    failures++;
+                }
+            }
+            return new Latencies(nanos, failures);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private boolean login() throws IOException, InterruptedException {
+        HttpResponse<Void> authorization = send(uri("/oauth2/authorization/kakao"), null);
+        Matcher state = STATE_PARAMETER.matcher(authorization.headers().firstValue("Location").orElse(""));
+        String cookie = authorization.headers().allValues("Set-Cookie").stream()
+                .filter(value -> value.startsWith(COOKIE_PREFIX))
+                .map(value -> value.split(";", 2)[0])
+                .findFirst()
+                .orElse(null);
+        if (authorization.statusCode() != 302 || !state.find() || cookie == null) {
+            return false;
+        }
+
+        HttpResponse<Void> callback = send(uri("/login/oauth2/code/kakao?code=stub-code&state=" + state.group(1)), cookie);
+        return callback.statusCode() == 302
+                && callback.headers().firstValue("Location").orElse("").startsWith(redirectSuccessUri + "?code=");
+    }
+
+    private HttpResponse<Void> send(URI uri, String cookie) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET();
+        if (cookie != null) {
+            request.header("Cookie", cookie);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static OAuth2ProviderStubServer startProviderStub() {
+        try {
+            return new OAuth2ProviderStubServer(0, PROVIDER_DELAY_MS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Latencies(long[] nanos, int failures) {
+    }
+
+    protected record Result(String mode, int concurrency, double throughput, long p50Ms, long p99Ms, int failures) {
+
+        @Override
+        public String toString() {
+            return String.format("[%s] concurrency=%d, throughput=%.1f logins/s, p50=%dms, p99=%dms, failures=%d",
+                    mode, concurrency, throughput, p50Ms, p99Ms, failures);
+        }
+    }
+}
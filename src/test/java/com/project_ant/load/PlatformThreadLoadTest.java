@@ -0,0 +1,21 @@
+package com.project_ant.load;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tomcat 플랫폼 스레드(최대 200개)로 로그인 요청 처리. VirtualThreadLoadTest 와 결과를 비교한다.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadLoadTest extends OAuth2LoginLoadTest {
+
+    @Test
+    void concurrencyIsBoundByTomcatThreads() throws Exception {
+        Result result = measure("platform");
+
+        assertThat(result.failures()).isZero();
+        assertThat(result.concurrency()).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+    }
+}
@@ -0,0 +1,25 @@
+package com.project_ant.load;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * spring.threads.virtual.enabled=true 로 로그인 요청 처리 (요청마다 가상 스레드).
+ * Provider 대기 중에 스레드를 점유하지 않으므로 Tomcat 스레드 수보다 많은 로그인을 동시에 처리해야 한다.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadLoadTest extends OAuth2LoginLoadTest {
+
+    @Test
+    void concurrencyExceedsTomcatThreads() throws Exception {
+        Result result = measure("virtual");
+
+        assertThat(result.failures()).isZero();
+        assertThat(result.concurrency()).isGreaterThan(TOMCAT_MAX_THREADS);
+    }
+}
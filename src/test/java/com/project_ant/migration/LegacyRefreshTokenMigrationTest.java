@@ -0,0 +1,151 @@
+package com.project_ant.migration;
+
+import com.project_ant.security.jwt.JwtKeyRing;
+import com.project_ant.security.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 ddl-auto 스키마(user 테이블에 Refresh Token 컬럼이 있던 시절)에서 V1, V2 마이그레이션을 실행한다.
+ * 컬럼 이름은 기본 네이밍 전략이 만든 물리 이름(refresh_token_expiry_date)을 그대로 사용한다.
+ * Docker 가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class LegacyRefreshTokenMigrationTest {
+
+    @Container
+    private static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+
+    private static final String SECRET = "migration-test-secret-key-0123456789abcdef0123456789";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+            new JwtKeyRing(SECRET, "HS256", JwtKeyRing.DEFAULT_KEY_ID, "", "", 604800000),
+            new SimpleMeterRegistry(), 1800000, 604800000);
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                MARIADB.getJdbcUrl(), MARIADB.getUsername(), MARIADB.getPassword()));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS flyway_schema_history");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS refresh_token");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS user");
+    }
+
+    @Test
+    void movesRawTokensFromBaselineSchema() {
+        createBaselineUserTable(false);
+        String tokenId = jwtTokenProvider.newRefreshTokenId();
+        insertUser(1, "google", "1", jwtTokenProvider.generateRefreshToken("google:1", tokenId), null, 7);
+        insertUser(2, "google", "2", jwtTokenProvider.generateRefreshToken("google:2", UUID.randomUUID().toString()),
+                null, -1);  // 만료
+        insertUser(3, "kakao", "3", "not-a-jwt", null, 7);  // 검증 실패
+        insertUser(4, "naver", "4", null, null, null);
+
+        migrate();
+
+        assertThat(refreshTokenIds()).containsExactly(tokenId);
+        assertLegacyColumnsDropped();
+    }
+
+    @Test
+    void movesRawTokensAndTokenIdsWhenBothColumnsExist() {
+        createBaselineUserTable(true);
+        String rawTokenId = jwtTokenProvider.newRefreshTokenId();
+        String storedTokenId = UUID.randomUUID().toString();
+        insertUser(1, "google", "1", jwtTokenProvider.generateRefreshToken("google:1", rawTokenId), null, 7);
+        insertUser(2, "google", "2", null, storedTokenId, 7);
+        insertUser(3, "kakao", "3", null, UUID.randomUUID().toString(), -1);  // 만료
+
+        migrate();
+
+        assertThat(refreshTokenIds()).containsExactlyInAnyOrder(rawTokenId, storedTokenId);
+        assertLegacyColumnsDropped();
+    }
+
+    // 배치 경계를 지나도록 배치 크기 2로 실행
+    private void migrate() {
+        Flyway.configure()
+                .dataSource(MARIADB.getJdbcUrl(), MARIADB.getUsername(), MARIADB.getPassword())
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .javaMigrations(new V2__MoveLegacyRefreshTokens(jwtTokenProvider, 2))
+                .load()
+                .migrate();
+
+        List<Boolean> results = jdbcTemplate.queryForList(
+                "SELECT success FROM flyway_schema_history WHERE version IN ('1', '2')", Boolean.class);
+        assertThat(results).containsExactly(true, true);
+    }
+
+    // 기본 네이밍 전략으로 ddl-auto 가 만든 user 테이블 (refreshTokenExpiryDate -> refresh_token_expiry_date)
+    private void createBaselineUserTable(boolean withTokenIdColumn) {
+        jdbcTemplate.execute("""
+                CREATE TABLE user (
+                    id BIGINT NOT NULL AUTO_INCREMENT,
+                    create_at DATETIME(6) NOT NULL,
+                    email VARCHAR(255),
+                    image_url VARCHAR(500),
+                    name VARCHAR(100),
+                    password VARCHAR(100),
+                    provider VARCHAR(255),
+                    provider_id VARCHAR(255) NOT NULL,
+                    refresh_token VARCHAR(500),
+                    refresh_token_expiry_date DATETIME(6),
+                    updated_at DATETIME(6) NOT NULL,
+                    PRIMARY KEY (id),
+                    CONSTRAINT UKob8kqyqqgmefl0aco34akdtpe UNIQUE (email),
+                    CONSTRAINT UK2pp7yyb4hmvw0jfqmcbcrfmmh UNIQUE (provider, provider_id)
+                ) ENGINE = InnoDB""");
+        if (withTokenIdColumn) {
+            jdbcTemplate.execute("ALTER TABLE user ADD COLUMN refresh_token_id VARCHAR(36), " +
+                    "ADD CONSTRAINT uk_user_refresh_token_id UNIQUE (refresh_token_id)");
+        }
+    }
+
+    private void insertUser(long id, String provider, String providerId, String refreshToken, String refreshTokenId,
+                            Integer expiresInDays) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp expiresAt = expiresInDays != null
+                ? Timestamp.valueOf(LocalDateTime.now().plusDays(expiresInDays))
+                : null;
+        if (refreshTokenId == null) {
+            jdbcTemplate.update("INSERT INTO user (id, provider, provider_id, refresh_token, " +
+                            "refresh_token_expiry_date, create_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    id, provider, providerId, refreshToken, expiresAt, now, now);
+        } else {
+            jdbcTemplate.update("INSERT INTO user (id, provider, provider_id, refresh_token_id, " +
+                            "refresh_token_expiry_date, create_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    id, provider, providerId, refreshTokenId, expiresAt, now, now);
+        }
+    }
+
+    private List<String> refreshTokenIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM refresh_token", String.class);
+    }
+
+    private void assertLegacyColumnsDropped() {
+        List<String> columns = jdbcTemplate.queryForList(
+                "SELECT COLUMN_NAME FROM information_schema.COLUMNS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'user'", String.class);
+        assertThat(columns)
+                .doesNotContain("refresh_token", "refresh_token_id", "refresh_token_expiry_date")
+                .contains("token_version", "updated_at");
+    }
+}
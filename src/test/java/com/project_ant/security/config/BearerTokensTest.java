@@ -0,0 +1,22 @@
+package com.project_ant.security.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BearerTokensTest {
+
+    @Test
+    void matchesSchemeCaseInsensitively() {
+        assertThat(BearerTokens.extract("Bearer abc")).isEqualTo("abc");
+        assertThat(BearerTokens.extract("bearer abc")).isEqualTo("abc");
+        assertThat(BearerTokens.extract("BEARER abc")).isEqualTo("abc");
+    }
+
+    @Test
+    void rejectsMissingOrOtherSchemes() {
+        assertThat(BearerTokens.extract(null)).isNull();
+        assertThat(BearerTokens.extract("Bearer ")).isNull();
+        assertThat(BearerTokens.extract("Basic abc")).isNull();
+    }
+}
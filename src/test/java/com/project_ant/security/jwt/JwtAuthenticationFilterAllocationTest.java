@@ -0,0 +1,196 @@
+package com.project_ant.security.jwt;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.project_ant.datasource.ReadYourWritesTracker;
+import com.project_ant.domain.User;
+import com.project_ant.dto.UserSnapshot;
+import com.project_ant.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 인증된 요청 한 번에 필터가 할당하는 바이트 수가 예산을 넘지 않는지 확인한다 (검증 캐시 hit, 정상 상태).
+ * 워밍업 후 현재 스레드의 할당량(ThreadMXBean)을 요청 수로 나눠 측정한다.
+ * 토큰을 다시 파싱하거나 요청마다 목록/배열을 만드는 변경이 들어오면 예산을 넘는다.
+ * - 테스트 하네스 비용(스텁 리포지토리 Proxy 의 인자 배열, SecurityContext 정리)은 따로 측정해 뺀다
+ * - 로그 레벨은 운영 기본값(INFO)으로 고정한다 (DEBUG 로그 포맷팅 제외)
+ * JIT/GC 설정에 따라 값이 달라지므로 기본 test 태스크에서는 제외한다: ./gradlew allocationTest
+ */
+class JwtAuthenticationFilterAllocationTest {
+
+    // 요청당 허용 할당량 = 필터 자체 할당 추정치(약 2 KiB: 토큰 substring·getBytes 각 ~0.45 KiB,
+    // SHA-256 MessageDigest ~0.6 KiB, Bloom 해시·providerId·인증 객체 ~0.3 KiB)의 2배.
+    // 토큰 파싱 한 번이 수십 KB 이므로 검증 캐시가 동작하지 않으면 바로 넘는다.
+    // allocationTest 가 측정값을 출력하므로 측정값이 바뀌면 같은 여유(2배)로 다시 정한다.
+    private static final long BYTES_PER_REQUEST_BUDGET = 4 * 1024;
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int MEASURED_REQUESTS = 20_000;
+
+    private static final String SECRET = "allocation-test-secret-key-0123456789abcdef0123456789";
+    private static final Long USER_ID = 1L;
+    private static final String PROVIDER = "google";
+    private static final String PROVIDER_ID = "109876543210987654321";
+    private static final String EMAIL = "allocation@example.com";
+
+    private static Level previousRootLevel;
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final FilterChain chain = (req, res) -> { };
+    private final UserRepository userRepository = stubUserRepository();
+    private String accessToken;
+
+    @BeforeAll
+    static void useProductionLogLevel() {
+        Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        previousRootLevel = root.getLevel();
+        root.setLevel(Level.INFO);
+    }
+
+    @AfterAll
+    static void restoreLogLevel() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(previousRootLevel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Tag("allocation")
+    @ParameterizedTest(name = "stateless={0}")
+    @ValueSource(booleans = {false, true})
+    void authenticatedRequestStaysWithinAllocationBudget(boolean stateless) throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean = threadMXBean();
+        JwtAuthenticationFilter filter = filter(stateless);
+        MockHttpServletRequest request = authenticatedRequest("/api/users/me");
+
+        runRequests(filter, request, WARMUP_REQUESTS);
+        runHarness(stateless, WARMUP_REQUESTS);
+        filter.doFilterInternal(request, response, chain);
+        assertThat(SecurityContextHolder.getContext().getAuthentication())
+                .isInstanceOf(AuthenticatedUserToken.class);
+        SecurityContextHolder.clearContext();
+
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        runRequests(filter, request, MEASURED_REQUESTS);
+        long totalBytes = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+        before = threadMXBean.getCurrentThreadAllocatedBytes();
+        runHarness(stateless, MEASURED_REQUESTS);
+        long harnessBytes = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+        long bytesPerRequest = Math.max(totalBytes - harnessBytes, 0) / MEASURED_REQUESTS;
+        System.out.printf("[stateless=%s] filter=%d B/request (total=%d, harness=%d), budget=%d%n",
+                stateless, bytesPerRequest, totalBytes / MEASURED_REQUESTS, harnessBytes / MEASURED_REQUESTS,
+                BYTES_PER_REQUEST_BUDGET);
+
+        assertThat(bytesPerRequest)
+                .as("요청당 할당 바이트 (stateless=%s)", stateless)
+                .isLessThanOrEqualTo(BYTES_PER_REQUEST_BUDGET);
+    }
+
+    @Test
+    void publicPathsSkipAuthentication() throws Exception {
+        JwtAuthenticationFilter filter = filter(false);
+
+        filter.doFilter(authenticatedRequest("/api/auth/refresh"), response, chain);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+
+        filter.doFilter(authenticatedRequest("/api/users/me"), response, chain);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    private void runRequests(JwtAuthenticationFilter filter, MockHttpServletRequest request, int count)
+            throws Exception {
+        for (int i = 0; i < count; i++) {
+            filter.doFilterInternal(request, response, chain);
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    // 필터 밖(하네스)에서 생기는 할당만 재현: 요청마다 하는 스텁 리포지토리 호출(stateful)과 SecurityContext 정리
+    private void runHarness(boolean stateless, int count) {
+        for (int i = 0; i < count; i++) {
+            if (!stateless) {
+                userRepository.findSnapshotByProviderAndProviderId(PROVIDER, PROVIDER_ID);
+            }
+            SecurityContextHolder.getContext();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private JwtAuthenticationFilter filter(boolean stateless) {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, "HS256", JwtKeyRing.DEFAULT_KEY_ID, "", "", 604800000);
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(keyRing, meterRegistry, 1800000, 604800000);
+        accessToken = jwtTokenProvider.generateAccessToken(USER_ID, PROVIDER + ":" + PROVIDER_ID, EMAIL, 0L);
+
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                jwtTokenProvider,
+                userRepository,
+                new TokenVersionCache(userRepository, 60000, 100000),
+                new VerifiedTokenCache(true, 10000, meterRegistry),
+                new AccessTokenRevocationList(new InMemoryRevokedTokenStore(), 100000, 0.01),
+                new ReadYourWritesTracker(false, 2000, 100000),
+                meterRegistry);
+        ReflectionTestUtils.setField(filter, "statelessEnabled", stateless);
+        return filter;
+    }
+
+    private MockHttpServletRequest authenticatedRequest(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        return request;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "스레드별 할당량 측정을 지원하지 않는 JVM");
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "스레드별 할당량 측정을 지원하지 않는 JVM");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return threadMXBean;
+    }
+
+    // 반환값은 미리 만들어 두어 스텁 자체의 할당은 Proxy 인자 배열뿐이다
+    private static UserRepository stubUserRepository() {
+        User user = new User(EMAIL, PROVIDER, PROVIDER_ID);
+        ReflectionTestUtils.setField(user, "id", USER_ID);
+        Optional<UserSnapshot> snapshot = Optional.of(new UserSnapshot(
+                user.getId(), user.getEmail(), user.getProvider(), user.getProviderId(), null, null));
+        Optional<Long> tokenVersion = Optional.of(user.getTokenVersion());
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findSnapshotByProviderAndProviderId" -> snapshot;
+                    case "findTokenVersionById" -> tokenVersion;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubUserRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
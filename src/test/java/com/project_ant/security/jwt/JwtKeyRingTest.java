@@ -0,0 +1,67 @@
+package com.project_ant.security.jwt;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ES256 모드에서 HS256(kid 없음/default) 토큰은 legacy-hmac-accept-until 까지만 검증된다.
+ */
+class JwtKeyRingTest {
+
+    private static final String SECRET = "key-ring-test-secret-key-0123456789abcdef0123456789";
+    private static final long REFRESH_TOKEN_EXPIRATION_MS = 604800000;
+
+    @Test
+    void acceptsHmacTokensUntilCutoff() {
+        String acceptUntil = Instant.now().plus(1, ChronoUnit.HOURS).toString();
+        JwtKeyRing keyRing = new JwtKeyRing(
+                SECRET, "ES256", JwtKeyRing.DEFAULT_KEY_ID, "", acceptUntil, REFRESH_TOKEN_EXPIRATION_MS);
+
+        assertThat(parse(keyRing, hmacToken(null))).isEqualTo("user");
+        assertThat(parse(keyRing, hmacToken(JwtKeyRing.DEFAULT_KEY_ID))).isEqualTo("user");
+    }
+
+    @Test
+    void rejectsHmacTokensWithoutCutoffOrAfterIt() {
+        JwtKeyRing notConfigured = new JwtKeyRing(
+                SECRET, "ES256", JwtKeyRing.DEFAULT_KEY_ID, "", "", REFRESH_TOKEN_EXPIRATION_MS);
+        JwtKeyRing expired = new JwtKeyRing(
+                SECRET, "ES256", JwtKeyRing.DEFAULT_KEY_ID, "",
+                Instant.now().minus(1, ChronoUnit.MINUTES).toString(), REFRESH_TOKEN_EXPIRATION_MS);
+
+        for (JwtKeyRing keyRing : new JwtKeyRing[]{notConfigured, expired}) {
+            assertThatThrownBy(() -> parse(keyRing, hmacToken(null))).isInstanceOf(JwtException.class);
+            assertThatThrownBy(() -> parse(keyRing, hmacToken(JwtKeyRing.DEFAULT_KEY_ID)))
+                    .isInstanceOf(JwtException.class);
+        }
+    }
+
+    @Test
+    void hmacModeAlwaysAcceptsDefaultKey() {
+        JwtKeyRing keyRing = new JwtKeyRing(
+                SECRET, "HS256", JwtKeyRing.DEFAULT_KEY_ID, "", "", REFRESH_TOKEN_EXPIRATION_MS);
+
+        assertThat(parse(keyRing, hmacToken(null))).isEqualTo("user");
+    }
+
+    private static String hmacToken(String keyId) {
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .subject("user")
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private static String parse(JwtKeyRing keyRing, String token) {
+        return Jwts.parser().keyLocator(keyRing).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+}
@@ -0,0 +1,55 @@
+package com.project_ant.security.jwt;
+
+import com.project_ant.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenVersionCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final AtomicReference<Long> storedVersion = new AtomicReference<>(0L);
+    private final AtomicInteger queries = new AtomicInteger();
+    private final TokenVersionCache cache = new TokenVersionCache(stubUserRepository(), 60000, 100);
+
+    @Test
+    void reloadsWhenTokenIsNewerThanCachedVersion() {
+        assertThat(cache.isCurrent(USER_ID, 0)).isTrue();
+
+        // 다른 인스턴스에서 전체 로그아웃 후 재로그인 → ver=1 토큰
+        storedVersion.set(1L);
+
+        assertThat(cache.isCurrent(USER_ID, 1)).isTrue();
+        assertThat(cache.isCurrent(USER_ID, 0)).isFalse();
+        assertThat(queries).hasValue(2);
+    }
+
+    @Test
+    void rejectsDeletedUser() {
+        storedVersion.set(null);
+
+        assertThat(cache.isCurrent(USER_ID, 0)).isFalse();
+    }
+
+    private UserRepository stubUserRepository() {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findTokenVersionById" -> {
+                        queries.incrementAndGet();
+                        yield Optional.ofNullable(storedVersion.get());
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubUserRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,86 @@
+package com.project_ant.security.oauth;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpCookieOAuth2AuthorizationRequestRepositoryTest {
+
+    private static final String SECRET = "cookie-test-secret";
+
+    private final HttpCookieOAuth2AuthorizationRequestRepository repository =
+            new HttpCookieOAuth2AuthorizationRequestRepository(SECRET, 180, true);
+
+    @Test
+    void restoresAuthorizationRequestFromCookie() {
+        OAuth2AuthorizationRequest authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+                .clientId("client-id")
+                .redirectUri("http://localhost:8080/login/oauth2/code/kakao")
+                .scopes(Set.of("profile_nickname"))
+                .state("state-value")
+                .additionalParameters(Map.of("nonce", "nonce-value"))
+                .attributes(Map.of("registration_id", "kakao"))
+                .build();
+
+        OAuth2AuthorizationRequest restored = repository.loadAuthorizationRequest(requestWithCookie(
+                save(repository, authorizationRequest)));
+
+        assertThat(restored).isNotNull();
+        assertThat(restored.getAuthorizationUri()).isEqualTo(authorizationRequest.getAuthorizationUri());
+        assertThat(restored.getClientId()).isEqualTo("client-id");
+        assertThat(restored.getRedirectUri()).isEqualTo(authorizationRequest.getRedirectUri());
+        assertThat(restored.getScopes()).containsExactly("profile_nickname");
+        assertThat(restored.getState()).isEqualTo("state-value");
+        assertThat(restored.getAdditionalParameters()).containsEntry("nonce", "nonce-value");
+        assertThat(restored.getAttributes()).containsEntry("registration_id", "kakao");
+        assertThat(restored.getAuthorizationRequestUri()).isEqualTo(authorizationRequest.getAuthorizationRequestUri());
+    }
+
+    @Test
+    void rejectsCookieEncryptedWithAnotherKey() {
+        HttpCookieOAuth2AuthorizationRequestRepository other =
+                new HttpCookieOAuth2AuthorizationRequestRepository("another-secret", 180, true);
+        OAuth2AuthorizationRequest authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+                .clientId("client-id")
+                .state("state-value")
+                .build();
+
+        assertThat(repository.loadAuthorizationRequest(requestWithCookie(save(other, authorizationRequest))))
+                .isNull();
+    }
+
+    @Test
+    void requiresDedicatedSecret() {
+        assertThatThrownBy(() -> new HttpCookieOAuth2AuthorizationRequestRepository("", 180, true))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new HttpCookieOAuth2AuthorizationRequestRepository(
+                "default-secret-key-for-development-only-change-in-production", 180, true))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String save(HttpCookieOAuth2AuthorizationRequestRepository repository,
+                               OAuth2AuthorizationRequest authorizationRequest) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveAuthorizationRequest(authorizationRequest, new MockHttpServletRequest(), response);
+        String setCookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        String prefix = HttpCookieOAuth2AuthorizationRequestRepository.COOKIE_NAME + "=";
+        return setCookie.substring(prefix.length(), setCookie.indexOf(';'));
+    }
+
+    private static MockHttpServletRequest requestWithCookie(String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(HttpCookieOAuth2AuthorizationRequestRepository.COOKIE_NAME, value));
+        return request;
+    }
+}
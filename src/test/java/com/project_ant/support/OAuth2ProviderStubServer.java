@@ -0,0 +1,114 @@
+package com.project_ant.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Google/Kakao/Naver token, user-info 엔드포인트를 흉내 내는 로컬 서버 (user-info 응답 지연 설정 가능).
+ * 외부 Provider 없이 느린 Provider 상황의 동시성/지연을 측정할 때 사용한다.
+ * 동시에 처리 중인 user-info 요청 수의 최댓값을 기록한다 (애플리케이션이 실제로 동시에 처리한 로그인 수).
+ *
+ * 단독 실행: ./gradlew runProviderStub -Pport=8089 -PdelayMs=200
+ * 애플리케이션은 provider-stub 프로필로 실행하면 user-info-uri 가 이 서버를 가리킨다.
+ */
+public class OAuth2ProviderStubServer implements AutoCloseable {
+
+    public static final String GOOGLE_USER_INFO_PATH = "/oauth2/v3/userinfo";
+    public static final String KAKAO_USER_INFO_PATH = "/v2/user/me";
+    public static final String NAVER_USER_INFO_PATH = "/v1/nid/me";
+    public static final String GOOGLE_TOKEN_PATH = "/token";
+    public static final String KAKAO_TOKEN_PATH = "/oauth/token";
+    public static final String NAVER_TOKEN_PATH = "/oauth2.0/token";
+
+    private static final String TOKEN_RESPONSE = """
+            {"access_token":"stub-access-token","token_type":"Bearer","expires_in":3600}""";
+
+    private static final String GOOGLE_RESPONSE = """
+            {"sub":"109876543210987654321","email":"ant@example.com","name":"Ant","picture":"https://example.com/ant.png"}""";
+    private static final String KAKAO_RESPONSE = """
+            {"id":1234567890,"properties":{"nickname":"개미","profile_image":"https://example.com/ant.png"},"kakao_account":{"email":""}}""";
+    private static final String NAVER_RESPONSE = """
+            {"resultcode":"00","message":"success","response":{"id":"naver-ant-id","email":"ant@naver.com","name":"개미","profile_image":"https://example.com/ant.png"}}""";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long delayMs;
+    private final AtomicInteger inFlightUserInfoRequests = new AtomicInteger();
+    private final AtomicInteger maxInFlightUserInfoRequests = new AtomicInteger();
+
+    public OAuth2ProviderStubServer(int port, long delayMs) throws IOException {
+        this.delayMs = delayMs;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext(GOOGLE_USER_INFO_PATH, exchange -> respondUserInfo(exchange, GOOGLE_RESPONSE));
+        server.createContext(KAKAO_USER_INFO_PATH, exchange -> respondUserInfo(exchange, KAKAO_RESPONSE));
+        server.createContext(NAVER_USER_INFO_PATH, exchange -> respondUserInfo(exchange, NAVER_RESPONSE));
+        server.createContext(GOOGLE_TOKEN_PATH, exchange -> respond(exchange, TOKEN_RESPONSE));
+        server.createContext(KAKAO_TOKEN_PATH, exchange -> respond(exchange, TOKEN_RESPONSE));
+        server.createContext(NAVER_TOKEN_PATH, exchange -> respond(exchange, TOKEN_RESPONSE));
+        server.start();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+        long delayMs = args.length > 1 ? Long.parseLong(args[1]) : 0;
+
+        OAuth2ProviderStubServer stubServer = new OAuth2ProviderStubServer(port, delayMs);
+        System.out.println("OAuth2 provider stub started: " + stubServer.baseUrl() + " (delay " + delayMs + "ms)");
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public int maxInFlightUserInfoRequests() {
+        return maxInFlightUserInfoRequests.get();
+    }
+
+    public void resetMaxInFlightUserInfoRequests() {
+        maxInFlightUserInfoRequests.set(0);
+    }
+
+    private void respondUserInfo(HttpExchange exchange, String body) throws IOException {
+        int inFlight = inFlightUserInfoRequests.incrementAndGet();
+        maxInFlightUserInfoRequests.accumulateAndGet(inFlight, Math::max);
+        try {
+            if (delayMs > 0) {
+                Thread.sleep(delayMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlightUserInfoRequests.decrementAndGet();
+        }
+        respond(exchange, body);
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}